@@ -0,0 +1,97 @@
+package com.banking.pages;
+
+import com.banking.utils.LazyDriver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.PageFactory;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Page construction cost: PageFactory.initElements against PageBindings, for
+ * the framework's By-based pages and for a page with @FindBy proxies.
+ * The driver is a LazyDriver that is never started, so no browser is involved.
+ * Run: mvn -Pbenchmark test-compile exec:exec -Djmh.args=PageConstruction
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageConstructionBenchmark {
+
+    private WebDriver driver;
+    private AccountsPage accountsPage;
+    private AnnotatedPage annotatedPage;
+
+    @Setup
+    public void setUp() {
+        driver = LazyDriver.create(() -> {
+            throw new IllegalStateException("benchmark driver must not start");
+        });
+        accountsPage = new AccountsPage(driver);
+        annotatedPage = new AnnotatedPage(driver);
+    }
+
+    @Benchmark
+    public Object pageFactoryByPage() {
+        PageFactory.initElements(driver, accountsPage);
+        return accountsPage;
+    }
+
+    @Benchmark
+    public Object pageBindingsByPage() {
+        PageBindings.bind(driver, accountsPage);
+        return accountsPage;
+    }
+
+    @Benchmark
+    public Object pageFactoryAnnotatedPage() {
+        PageFactory.initElements(driver, annotatedPage);
+        return annotatedPage;
+    }
+
+    @Benchmark
+    public Object pageBindingsAnnotatedPage() {
+        PageBindings.bind(driver, annotatedPage);
+        return annotatedPage;
+    }
+
+    @Benchmark
+    public Object constructAccountsPage() {
+        return new AccountsPage(driver);
+    }
+
+    /**
+     * Typical PageFactory-style page object
+     */
+    public static class AnnotatedPage extends BasePage {
+        @FindBy(id = "fromAccount")
+        private WebElement fromAccount;
+        @FindBy(id = "toAccount")
+        private WebElement toAccount;
+        @FindBy(id = "amount")
+        private WebElement amount;
+        @FindBy(id = "submitTransfer")
+        private WebElement submit;
+        @FindBy(css = ".account-row")
+        private List<WebElement> rows;
+
+        public AnnotatedPage(WebDriver driver) {
+            super(driver);
+        }
+    }
+}
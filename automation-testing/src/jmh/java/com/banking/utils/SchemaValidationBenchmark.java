@@ -0,0 +1,110 @@
+package com.banking.utils;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response contract cost: validating a GET /api/customers body against its
+ * compiled, cached schema (ApiSchemas), split into parse and walk, next to
+ * loading and compiling the schema for every call as an uncached validator
+ * would. Bodies are generated in the backend's customer shape, no server needed.
+ * Run: mvn -Pbenchmark test-compile exec:exec -Djmh.args=SchemaValidation
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SchemaValidationBenchmark {
+
+    @Param({"10", "1000"})
+    private int customers;
+
+    private String body;
+    private JsonElement parsed;
+    private Path schemaDir;
+
+    @Setup
+    public void setUp() {
+        JsonArray list = new JsonArray();
+        for (int id = 1; id <= customers; id++) list.add(customer(id));
+        body = list.toString();
+        parsed = JsonParser.parseString(body);
+        schemaDir = Paths.get(ConfigReader.get("api.schema.dir", "src/test/resources/schemas"));
+        JsonSchema.Result result = ApiSchemas.forEndpoint("GET", "/api/customers").validate(body);
+        if (!result.passed()) throw new IllegalStateException("benchmark body must be valid: " + result.summary());
+    }
+
+    @Benchmark
+    public Object parseOnly() {
+        return JsonParser.parseString(body);
+    }
+
+    @Benchmark
+    public Object validateParsed() {
+        return ApiSchemas.forEndpoint("GET", "/api/customers").validate(parsed);
+    }
+
+    /**
+     * What APIHelper.validateSchema does per response
+     */
+    @Benchmark
+    public Object parseAndValidate() {
+        return ApiSchemas.forEndpoint("GET", "/api/customers").validate(body);
+    }
+
+    @Benchmark
+    public Object loadCompileAndValidate() throws IOException {
+        JsonSchema item = JsonSchema.compile(read("customer.json"), ref -> null);
+        JsonSchema list = JsonSchema.compile(read("customers.json"), ref -> item);
+        return list.validate(body);
+    }
+
+    private JsonObject read(String file) throws IOException {
+        return JsonParser.parseString(Files.readString(schemaDir.resolve(file))).getAsJsonObject();
+    }
+
+    private static JsonObject customer(int id) {
+        JsonObject customer = new JsonObject();
+        customer.addProperty("id", id);
+        customer.addProperty("customer_id", "CUST-" + (10000 + id));
+        customer.addProperty("first_name", "First" + id);
+        customer.addProperty("last_name", "Last" + id);
+        customer.addProperty("email", "customer" + id + "@email.com");
+        customer.addProperty("phone", "+91-98765" + String.format("%05d", id % 100000));
+        customer.addProperty("password_hash", "$2b$12$hash" + id);
+        customer.addProperty("date_of_birth", "1985-03-15");
+        customer.addProperty("address", id + " MG Road");
+        customer.addProperty("city", "Bangalore");
+        customer.addProperty("state", "Karnataka");
+        customer.addProperty("zip_code", "560038");
+        customer.addProperty("country", "India");
+        customer.addProperty("id_type", "aadhar");
+        customer.addProperty("id_number", "1234-5678-" + String.format("%04d", id % 10000));
+        customer.addProperty("is_active", 1);
+        customer.addProperty("is_verified", id % 2);
+        customer.addProperty("created_at", "2026-02-24 21:29:30");
+        customer.addProperty("updated_at", "2026-02-24 21:29:30");
+        return customer;
+    }
+}
@@ -0,0 +1,126 @@
+package com.banking.load;
+
+import com.banking.utils.ConfigReader;
+import io.cucumber.gherkin.GherkinParser;
+import io.cucumber.messages.types.Envelope;
+import io.cucumber.messages.types.Pickle;
+import io.cucumber.messages.types.PickleStep;
+import io.cucumber.messages.types.PickleStepArgument;
+import io.cucumber.messages.types.PickleStepType;
+import io.cucumber.messages.types.PickleTable;
+import io.cucumber.messages.types.PickleTableCell;
+import io.cucumber.messages.types.PickleTag;
+import io.cucumber.tagexpressions.TagExpressionParser;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Feature Replay - Turns the tagged feature scenarios into load tasks
+ * Keys: load.feature.path (directory of .feature files), load.feature.tags
+ * (tag expression, default @api), load.feature.glue (comma-separated step
+ * classes), load.feature.think.ms, and load.feature.weight.<scenario-slug>
+ * per scenario (default 1, 0 leaves it out)
+ */
+public class FeatureReplay {
+    private final List<FeatureScenario> scenarios = new ArrayList<>();
+    private final Map<String, LatencyStats> stepStats = new LinkedHashMap<>();
+
+    public static FeatureReplay fromConfig() throws IOException {
+        List<Class<?>> glue = new ArrayList<>();
+        for (String name : ConfigReader.get("load.feature.glue", "com.banking.steps.APISteps").split(",")) {
+            try {
+                glue.add(Class.forName(name.trim()));
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException("Glue class not found: " + name.trim(), e);
+            }
+        }
+        return new FeatureReplay(Paths.get(ConfigReader.get("load.feature.path", "src/test/resources/features")),
+                ConfigReader.get("load.feature.tags", "@api"), new StepGlue(glue),
+                ConfigReader.getInt("load.feature.think.ms", 500));
+    }
+
+    public FeatureReplay(Path features, String tags, StepGlue glue, long thinkMillis) throws IOException {
+        io.cucumber.tagexpressions.Expression filter = TagExpressionParser.parse(tags);
+        GherkinParser parser = GherkinParser.builder()
+                .includeSource(false)
+                .includeGherkinDocument(false)
+                .build();
+        Map<String, Integer> seen = new HashMap<>();
+        for (Path file : featureFiles(features)) {
+            List<Envelope> envelopes = parser.parse(file).toList();
+            for (Envelope envelope : envelopes) {
+                envelope.getParseError().ifPresent(error -> {
+                    throw new IllegalStateException(file + ": " + error.getMessage());
+                });
+                Pickle pickle = envelope.getPickle().orElse(null);
+                if (pickle == null) continue;
+                if (!filter.evaluate(pickle.getTags().stream().map(PickleTag::getName).toList())) continue;
+                // Scenario outline rows share a name
+                int occurrence = seen.merge(pickle.getName(), 1, Integer::sum);
+                String name = occurrence == 1 ? pickle.getName() : pickle.getName() + " #" + occurrence;
+                int weight = ConfigReader.getInt("load.feature.weight." + slug(pickle.getName()), 1);
+                if (weight <= 0) continue;
+
+                List<StepGlue.BoundStep> steps = new ArrayList<>();
+                for (PickleStep step : pickle.getSteps()) {
+                    boolean action = step.getType().orElse(PickleStepType.UNKNOWN) == PickleStepType.ACTION;
+                    steps.add(glue.bind(step.getText(), table(step), action));
+                    stepStats.computeIfAbsent(step.getText(), text -> new LatencyStats());
+                }
+                scenarios.add(new FeatureScenario(name, weight, steps, glue, thinkMillis, stepStats));
+            }
+        }
+        if (scenarios.isEmpty()) {
+            throw new IllegalStateException("No scenarios in " + features + " match " + tags);
+        }
+    }
+
+    private static List<Path> featureFiles(Path features) throws IOException {
+        if (!Files.isDirectory(features)) return List.of(features);
+        try (Stream<Path> files = Files.walk(features)) {
+            return files.filter(file -> file.toString().endsWith(".feature")).sorted().toList();
+        }
+    }
+
+    private static List<List<String>> table(PickleStep step) {
+        PickleTable table = step.getArgument().flatMap(PickleStepArgument::getDataTable).orElse(null);
+        if (table == null) return List.of();
+        return table.getRows().stream()
+                .map(row -> row.getCells().stream().map(PickleTableCell::getValue).toList())
+                .toList();
+    }
+
+    /**
+     * "Get customer by ID" -> "get-customer-by-id", the load.feature.weight. suffix
+     */
+    public static String slug(String scenario) {
+        return scenario.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-").replaceAll("^-|-$", "");
+    }
+
+    public List<FeatureScenario> scenarios() {
+        return scenarios;
+    }
+
+    /**
+     * Per-step time and failure counts (a failed check is an error, not an abort)
+     */
+    public String stepReport() {
+        StringBuilder sb = new StringBuilder("Scenarios (load.feature.weight.<slug>):\n");
+        for (FeatureScenario scenario : scenarios) {
+            sb.append(String.format("  %-36s weight %d (%s)%n", scenario.name(), scenario.weight(),
+                    slug(scenario.name().replaceAll(" #\\d+$", ""))));
+        }
+        sb.append(LoadResult.table("Per step, time (ms):", "step", stepStats, LatencyStats::serviceTime));
+        return sb.toString().trim();
+    }
+}
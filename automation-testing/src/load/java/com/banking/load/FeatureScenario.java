@@ -0,0 +1,48 @@
+package com.banking.load;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Feature Scenario - One Gherkin scenario replayed as a virtual user
+ * Runs the scenario's steps in order on fresh glue instances, pausing the
+ * think time (+-50%) before every request after the first. A failed check is
+ * counted against its step and the scenario carries on; any other failure
+ * (e.g. a request that never got a response) ends the iteration
+ */
+public record FeatureScenario(String name, int weight, List<StepGlue.BoundStep> steps, StepGlue glue,
+                              long thinkMillis, Map<String, LatencyStats> stepStats) implements LoadTask {
+
+    @Override
+    public boolean execute() throws InterruptedException {
+        Map<Class<?>, Object> instances = glue.newInstances();
+        boolean ok = true;
+        boolean requested = false;
+        for (StepGlue.BoundStep step : steps) {
+            if (step.action()) {
+                if (requested) think();
+                requested = true;
+            }
+            long sent = System.nanoTime();
+            Throwable failure = step.invoke(instances);
+            stepStats.get(step.text()).record(sent, sent, System.nanoTime(), failure == null);
+            if (failure != null) {
+                ok = false;
+                if (!(failure instanceof AssertionError)) break;
+            }
+        }
+        return ok;
+    }
+
+    @Override
+    public void warmedUp() {
+        for (StepGlue.BoundStep step : steps) stepStats.get(step.text()).reset();
+    }
+
+    private void think() throws InterruptedException {
+        if (thinkMillis <= 0) return;
+        long half = Math.max(1, thinkMillis / 2);
+        Thread.sleep(thinkMillis - half + ThreadLocalRandom.current().nextLong(2 * half));
+    }
+}
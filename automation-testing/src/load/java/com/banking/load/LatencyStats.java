@@ -0,0 +1,53 @@
+package com.banking.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency Stats - Concurrent HdrHistograms for one task (or phase)
+ * Response time is measured from the scheduled (intended) start, so time a
+ * request spent waiting behind a slow system is counted - the correction for
+ * coordinated omission. Service time is measured from the actual send
+ */
+public class LatencyStats {
+    private static final long HIGHEST_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    private final Histogram responseTime = new ConcurrentHistogram(HIGHEST_MICROS, 3);
+    private final Histogram serviceTime = new ConcurrentHistogram(HIGHEST_MICROS, 3);
+    private final LongAdder errors = new LongAdder();
+
+    void record(long intendedNanos, long sentNanos, long doneNanos, boolean ok) {
+        responseTime.recordValue(clamp((doneNanos - intendedNanos) / 1000));
+        serviceTime.recordValue(clamp((doneNanos - sentNanos) / 1000));
+        if (!ok) errors.increment();
+    }
+
+    void reset() {
+        responseTime.reset();
+        serviceTime.reset();
+        errors.reset();
+    }
+
+    private static long clamp(long micros) {
+        return Math.max(0, Math.min(micros, HIGHEST_MICROS));
+    }
+
+    public Histogram responseTime() {
+        return responseTime;
+    }
+
+    public Histogram serviceTime() {
+        return serviceTime;
+    }
+
+    public long count() {
+        return responseTime.getTotalCount();
+    }
+
+    public long errors() {
+        return errors.sum();
+    }
+}
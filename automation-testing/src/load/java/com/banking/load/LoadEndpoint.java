@@ -0,0 +1,64 @@
+package com.banking.load;
+
+import com.banking.utils.APIHelper;
+import com.banking.utils.ConfigReader;
+import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Load Endpoint - A single API call driven through APIHelper
+ * The mix comes from load.mix ("METHOD /path*weight", comma separated);
+ * request bodies from load.body./path
+ */
+public record LoadEndpoint(String method, String path, String body, int weight) implements LoadTask {
+    public static final String DEFAULT_MIX = "GET /api/customers*3,GET /api/accounts*3,"
+            + "GET /api/transactions*2,POST /api/sql/execute*1";
+    private static final String DEFAULT_SQL_BODY = "{\"query\":\"SELECT id, first_name, last_name FROM customers LIMIT 10\"}";
+
+    public static List<LoadEndpoint> fromConfig() {
+        List<LoadEndpoint> endpoints = new ArrayList<>();
+        for (String entry : ConfigReader.get("load.mix", DEFAULT_MIX).split(",")) {
+            if (!entry.isBlank()) endpoints.add(parse(entry.trim()));
+        }
+        return endpoints;
+    }
+
+    /**
+     * @param spec "GET /api/accounts*3" (weight defaults to 1)
+     */
+    static LoadEndpoint parse(String spec) {
+        String[] parts = spec.split("\\s+", 2);
+        if (parts.length < 2) throw new IllegalArgumentException("Bad load.mix entry: " + spec);
+        String target = parts[1].trim();
+        int weight = 1;
+        int star = target.lastIndexOf('*');
+        if (star > 0) {
+            weight = Integer.parseInt(target.substring(star + 1).trim());
+            target = target.substring(0, star).trim();
+        }
+        String method = parts[0].toUpperCase();
+        String body = ConfigReader.get("load.body." + target,
+                "/api/sql/execute".equals(target) ? DEFAULT_SQL_BODY : "{}");
+        return new LoadEndpoint(method, target, body, weight);
+    }
+
+    @Override
+    public String name() {
+        return method + " " + path;
+    }
+
+    @Override
+    public boolean execute() {
+        Response response = switch (method) {
+            case "GET" -> APIHelper.get(path);
+            case "POST" -> APIHelper.post(path, body);
+            case "PUT" -> APIHelper.put(path, body);
+            case "PATCH" -> APIHelper.patch(path, body);
+            case "DELETE" -> APIHelper.delete(path);
+            default -> throw new IllegalArgumentException("Unsupported method: " + method);
+        };
+        return response.getStatusCode() < 400;
+    }
+}
@@ -0,0 +1,141 @@
+package com.banking.load;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Load Generator - Open-model load: requests arrive on a schedule set by the
+ * profile's target rate, whether or not earlier ones have completed
+ * One scheduler thread computes each arrival's intended start time and hands
+ * the request to its own virtual thread. When the scheduler falls behind it
+ * fires the backlog immediately but keeps the intended times, so latency is
+ * never measured from a start that was already late
+ */
+public class LoadGenerator {
+    private final LoadProfile profile;
+    private final List<LoadTask> cycle;
+    private final int maxInFlight;
+    private final Map<String, LatencyStats> taskStats = new LinkedHashMap<>();
+    private final Map<String, LatencyStats> phaseStats = new LinkedHashMap<>();
+    private final LongAdder failures = new LongAdder();
+    private long rejected;
+    private long maxSchedulerLagNanos;
+    private long elapsedNanos;
+
+    /**
+     * @param maxInFlight arrivals beyond this many outstanding requests are
+     *                    rejected (and reported) instead of queued without bound
+     */
+    public LoadGenerator(LoadProfile profile, List<? extends LoadTask> tasks, int maxInFlight) {
+        this.profile = profile;
+        this.cycle = weightedCycle(tasks);
+        this.maxInFlight = maxInFlight;
+        for (LoadTask task : tasks) taskStats.put(task.name(), new LatencyStats());
+        for (LoadProfile.Phase phase : profile.phases()) phaseStats.put(phase.name(), new LatencyStats());
+    }
+
+    /**
+     * Call every task a few times, unmeasured, so class loading and the first
+     * connections do not land in the ramp phase's latencies
+     */
+    public void warmUp(int callsPerTask) {
+        for (LoadTask task : new LinkedHashSet<>(cycle)) {
+            for (int i = 0; i < callsPerTask; i++) {
+                try {
+                    task.execute();
+                } catch (Exception e) {
+                    System.err.println("Warm-up of " + task.name() + " failed: " + e.getMessage());
+                    break;
+                }
+            }
+        }
+        for (LoadTask task : cycle) task.warmedUp();
+    }
+
+    public LoadResult run() throws InterruptedException {
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        long start = System.nanoTime();
+        long total = (long) (profile.totalSeconds() * 1_000_000_000L);
+        long arrivals = 0;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            long offset = 0;
+            while (offset < total) {
+                double seconds = offset / 1e9;
+                double rate = profile.rateAt(seconds);
+                if (rate <= 0) break;
+                long intended = start + offset;
+                long lag = System.nanoTime() - intended;
+                if (lag < 0) {
+                    LockSupport.parkNanos(-lag);
+                } else {
+                    maxSchedulerLagNanos = Math.max(maxSchedulerLagNanos, lag);
+                }
+
+                LoadTask task = cycle.get((int) (arrivals++ % cycle.size()));
+                LatencyStats phase = phaseStats.get(profile.phaseAt(seconds).name());
+                if (!inFlight.tryAcquire()) {
+                    rejected++;
+                } else {
+                    executor.execute(() -> {
+                        try {
+                            fire(task, phase, intended);
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                }
+                offset += (long) (1_000_000_000L / rate);
+            }
+            executor.shutdown();
+            executor.awaitTermination(5, TimeUnit.MINUTES);
+        }
+        elapsedNanos = System.nanoTime() - start;
+        return new LoadResult(profile, taskStats, phaseStats, arrivals, rejected, failures.sum(),
+                maxSchedulerLagNanos, elapsedNanos);
+    }
+
+    private void fire(LoadTask task, LatencyStats phase, long intended) {
+        long sent = System.nanoTime();
+        boolean ok;
+        try {
+            ok = task.execute();
+        } catch (Exception e) {
+            ok = false;
+            failures.increment();
+        }
+        long done = System.nanoTime();
+        taskStats.get(task.name()).record(intended, sent, done, ok);
+        phase.record(intended, sent, done, ok);
+    }
+
+    /**
+     * Interleaved order in which tasks are picked, each appearing weight
+     * times (smooth weighted round robin, so the mix holds at any rate)
+     */
+    static List<LoadTask> weightedCycle(List<? extends LoadTask> tasks) {
+        int totalWeight = tasks.stream().mapToInt(LoadTask::weight).sum();
+        if (totalWeight <= 0) throw new IllegalArgumentException("No load task has a positive weight");
+        int[] current = new int[tasks.size()];
+        List<LoadTask> order = new ArrayList<>(totalWeight);
+        for (int n = 0; n < totalWeight; n++) {
+            int best = -1;
+            for (int i = 0; i < tasks.size(); i++) {
+                current[i] += tasks.get(i).weight();
+                if (best < 0 || current[i] > current[best]) best = i;
+            }
+            current[best] -= totalWeight;
+            order.add(tasks.get(best));
+        }
+        return order;
+    }
+}
@@ -0,0 +1,82 @@
+package com.banking.load;
+
+import com.banking.utils.ConfigReader;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Load Profile - Target arrival rate over time as ramp, steady and soak phases
+ * Each phase changes the rate linearly from fromRate to toRate (requests/s)
+ */
+public record LoadProfile(List<Phase> phases) {
+
+    public record Phase(String name, double seconds, double fromRate, double toRate) {
+
+        double rateAt(double secondsIntoPhase) {
+            return fromRate + (toRate - fromRate) * Math.min(1, secondsIntoPhase / seconds);
+        }
+    }
+
+    /**
+     * load.ramp.seconds from load.ramp.start.rate up to load.rate, then
+     * load.steady.seconds at load.rate, then load.soak.seconds at
+     * load.soak.rate (phases with 0 seconds are skipped)
+     */
+    public static LoadProfile fromConfig() {
+        double rate = Double.parseDouble(ConfigReader.get("load.rate", "20"));
+        double soakRate = Double.parseDouble(ConfigReader.get("load.soak.rate", String.valueOf(rate)));
+        List<Phase> phases = new ArrayList<>();
+        add(phases, "ramp", ConfigReader.getInt("load.ramp.seconds", 10),
+                Double.parseDouble(ConfigReader.get("load.ramp.start.rate", "1")), rate);
+        add(phases, "steady", ConfigReader.getInt("load.steady.seconds", 30), rate, rate);
+        add(phases, "soak", ConfigReader.getInt("load.soak.seconds", 0), soakRate, soakRate);
+        if (phases.isEmpty()) throw new IllegalArgumentException("Load profile has no phase with a duration");
+        return new LoadProfile(List.copyOf(phases));
+    }
+
+    private static void add(List<Phase> phases, String name, double seconds, double fromRate, double toRate) {
+        if (seconds <= 0) return;
+        if (fromRate <= 0 || toRate <= 0) throw new IllegalArgumentException(name + " rate must be > 0");
+        phases.add(new Phase(name, seconds, fromRate, toRate));
+    }
+
+    public double totalSeconds() {
+        return phases.stream().mapToDouble(Phase::seconds).sum();
+    }
+
+    /**
+     * @return phase active at this offset from the start, or null after the last one
+     */
+    Phase phaseAt(double seconds) {
+        double start = 0;
+        for (Phase phase : phases) {
+            if (seconds < start + phase.seconds()) return phase;
+            start += phase.seconds();
+        }
+        return null;
+    }
+
+    /**
+     * Target rate at this offset from the start (requests/s), 0 when finished
+     */
+    double rateAt(double seconds) {
+        double start = 0;
+        for (Phase phase : phases) {
+            if (seconds < start + phase.seconds()) return phase.rateAt(seconds - start);
+            start += phase.seconds();
+        }
+        return 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (Phase phase : phases) {
+            if (sb.length() > 0) sb.append(", ");
+            sb.append(String.format("%s %.0fs @ %.1f->%.1f/s", phase.name(), phase.seconds(),
+                    phase.fromRate(), phase.toRate()));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,102 @@
+package com.banking.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Load Result - Per-task and per-phase latency percentiles of one load run
+ * Response times include the wait from the intended start (coordinated
+ * omission corrected); service times are what the server took once sent
+ */
+public record LoadResult(LoadProfile profile, Map<String, LatencyStats> tasks, Map<String, LatencyStats> phases,
+                         long arrivals, long rejected, long exceptions, long maxSchedulerLagNanos,
+                         long elapsedNanos) {
+    private static final int MAX_LABEL = 72;
+
+    public String report() {
+        StringBuilder sb = new StringBuilder();
+        double seconds = elapsedNanos / 1e9;
+        sb.append(String.format("Load run: %s%n", profile));
+        sb.append(String.format("  %d arrivals in %.1fs (%.1f/s achieved), %d rejected (in-flight cap), "
+                        + "%d exception(s), max scheduler lag %.1fms%n",
+                arrivals, seconds, completed() / seconds, rejected, exceptions, maxSchedulerLagNanos / 1e6));
+        sb.append(table("Response time from intended start (ms):", "task", tasks, LatencyStats::responseTime));
+        sb.append(table("Service time from send (ms):", "task", tasks, LatencyStats::serviceTime));
+        sb.append(table("Per phase, response time (ms):", "phase", phases, LatencyStats::responseTime));
+        return sb.toString().trim();
+    }
+
+    /**
+     * Percentile table (ms) of one histogram per row
+     */
+    public static String table(String title, String label, Map<String, LatencyStats> rows,
+                               Function<LatencyStats, Histogram> histogram) {
+        int width = Math.min(MAX_LABEL, rows.keySet().stream().mapToInt(String::length).reduce(36, Math::max));
+        StringBuilder sb = new StringBuilder(title).append('\n');
+        sb.append(String.format("  %-" + width + "s %8s %7s %9s %9s %9s %9s %9s%n",
+                label, "count", "errors", "p50", "p90", "p99", "p99.9", "max"));
+        rows.forEach((name, stats) -> row(sb, width, name, stats, histogram.apply(stats)));
+        return sb.toString();
+    }
+
+    private static void row(StringBuilder sb, int width, String name, LatencyStats stats, Histogram histogram) {
+        if (name.length() > width) name = name.substring(0, width - 3) + "...";
+        if (histogram.getTotalCount() == 0) {
+            sb.append(String.format("  %-" + width + "s %8d%n", name, 0));
+            return;
+        }
+        sb.append(String.format("  %-" + width + "s %8d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n", name, stats.count(),
+                stats.errors(), millis(histogram, 50), millis(histogram, 90), millis(histogram, 99),
+                millis(histogram, 99.9), histogram.getMaxValue() / 1000.0));
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    public long completed() {
+        return tasks.values().stream().mapToLong(LatencyStats::count).sum();
+    }
+
+    public long errors() {
+        return tasks.values().stream().mapToLong(LatencyStats::errors).sum() + rejected;
+    }
+
+    /**
+     * Highest p99 response time over all tasks, in ms
+     */
+    public double worstP99Millis() {
+        return tasks.values().stream()
+                .filter(stats -> stats.count() > 0)
+                .mapToDouble(stats -> millis(stats.responseTime(), 99))
+                .max().orElse(0);
+    }
+
+    /**
+     * Write each task's response-time distribution as an .hgrm file (ms),
+     * loadable in the HdrHistogram plotter
+     * @return written files
+     */
+    public List<Path> writeHistograms(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        List<Path> written = new ArrayList<>();
+        for (Map.Entry<String, LatencyStats> entry : tasks.entrySet()) {
+            if (entry.getValue().count() == 0) continue;
+            Path file = directory.resolve(entry.getKey().replaceAll("[^A-Za-z0-9_-]+", "_") + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, StandardCharsets.UTF_8)) {
+                entry.getValue().responseTime().outputPercentileDistribution(out, 1000.0);
+            }
+            written.add(file);
+        }
+        return written;
+    }
+}
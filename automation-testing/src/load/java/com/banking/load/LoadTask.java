@@ -0,0 +1,30 @@
+package com.banking.load;
+
+/**
+ * Load Task - One kind of request the load generator can fire
+ * Tasks are picked by weight for each scheduled arrival and run on their
+ * own virtual thread, so execute() may block
+ */
+public interface LoadTask {
+
+    /**
+     * @return name the latencies are reported under
+     */
+    String name();
+
+    /**
+     * @return relative share of arrivals (0 = never picked)
+     */
+    int weight();
+
+    /**
+     * @return true when the call succeeded
+     */
+    boolean execute() throws Exception;
+
+    /**
+     * Called once the warm-up calls are done, before measuring starts
+     */
+    default void warmedUp() {
+    }
+}
@@ -0,0 +1,85 @@
+package com.banking.load;
+
+import com.banking.utils.ApiSpecs;
+import com.banking.utils.ConfigReader;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Load Test Main - Runs the API load profile and prints the latency report
+ * mvn -Pload test-compile exec:java -Dload.rate=50 -Dload.steady.seconds=60
+ * With -Dload.stub=true requests go to an in-process StubBackend instead of
+ * api.base.url. Exits 1 when the error rate exceeds load.max.error.rate or
+ * the worst p99 exceeds load.budget.p99.ms (0 = no budget)
+ */
+public class LoadTestMain {
+
+    public static void main(String[] args) throws Exception {
+        StubBackend stub = prepare();
+        int status;
+        try {
+            status = run(LoadEndpoint.fromConfig(), () -> "");
+        } finally {
+            if (stub != null) stub.close();
+        }
+        System.exit(status);
+    }
+
+    /**
+     * Size the API connection pool for load (must run before ApiSpecs loads)
+     * and start the StubBackend when load.stub=true
+     * @return the started stub, or null
+     */
+    public static StubBackend prepare() throws IOException {
+        // The functional suite's pool size would throttle the load
+        if (System.getProperty("api.pool.max.per.route") == null) {
+            String connections = ConfigReader.get("load.connections", "200");
+            System.setProperty("api.pool.max.per.route", connections);
+            System.setProperty("api.pool.max.total", connections);
+        }
+        if (!ConfigReader.getBoolean("load.stub", false)) return null;
+        StubBackend stub = new StubBackend(ConfigReader.getInt("load.stub.latency.ms", 20));
+        System.setProperty("api.base.url", stub.baseUrl());
+        return stub;
+    }
+
+    /**
+     * Run the configured profile over these tasks, print the report (followed
+     * by details) and check the thresholds
+     * @return process exit status
+     */
+    public static int run(List<? extends LoadTask> tasks, Supplier<String> details) throws Exception {
+        LoadProfile profile = LoadProfile.fromConfig();
+        System.out.println("Load target: " + ApiSpecs.baseUrl(ApiSpecs.environment()));
+        LoadGenerator generator = new LoadGenerator(profile, tasks, ConfigReader.getInt("load.max.inflight", 10_000));
+        generator.warmUp(ConfigReader.getInt("load.warmup.calls", 5));
+        LoadResult result = generator.run();
+
+        System.out.println(result.report());
+        String extra = details.get();
+        if (!extra.isEmpty()) System.out.println(extra);
+        System.out.println(ApiSpecs.poolStats());
+        Path directory = Paths.get(ConfigReader.get("load.output.dir", "target/load"));
+        for (Path file : result.writeHistograms(directory)) {
+            System.out.println("Histogram: " + file);
+        }
+
+        double errorRate = result.arrivals() > 0 ? (double) result.errors() / result.arrivals() : 0;
+        double maxErrorRate = Double.parseDouble(ConfigReader.get("load.max.error.rate", "0.01"));
+        double p99Budget = Double.parseDouble(ConfigReader.get("load.budget.p99.ms", "0"));
+        boolean failed = false;
+        if (errorRate > maxErrorRate) {
+            System.err.printf("Error rate %.2f%% exceeds %.2f%%%n", errorRate * 100, maxErrorRate * 100);
+            failed = true;
+        }
+        if (p99Budget > 0 && result.worstP99Millis() > p99Budget) {
+            System.err.printf("p99 %.1fms exceeds budget %.1fms%n", result.worstP99Millis(), p99Budget);
+            failed = true;
+        }
+        return failed ? 1 : 0;
+    }
+}
@@ -0,0 +1,123 @@
+package com.banking.load;
+
+import io.cucumber.cucumberexpressions.Argument;
+import io.cucumber.cucumberexpressions.Expression;
+import io.cucumber.cucumberexpressions.ExpressionFactory;
+import io.cucumber.cucumberexpressions.ParameterTypeRegistry;
+import io.cucumber.datatable.DataTable;
+import io.cucumber.datatable.DataTableTypeRegistry;
+import io.cucumber.datatable.DataTableTypeRegistryTableConverter;
+import io.cucumber.java.en.And;
+import io.cucumber.java.en.But;
+import io.cucumber.java.en.Given;
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Step Glue - Matches Gherkin step text to the suite's own step definitions
+ * Reads the @Given/@When/@Then/@And/@But expressions of the glue classes, so
+ * the load replay calls exactly the code the functional run does. Steps are
+ * bound once; each virtual user only invokes them on its own glue instances
+ */
+public class StepGlue {
+    private static final DataTable.TableConverter TABLE_CONVERTER =
+            new DataTableTypeRegistryTableConverter(new DataTableTypeRegistry(Locale.ENGLISH));
+
+    private record Definition(Expression expression, Method method) {
+    }
+
+    /**
+     * A step resolved to its method and arguments
+     * @param action true for When steps (requests), false for assertions
+     */
+    public record BoundStep(String text, Method method, Object[] arguments, boolean action) {
+
+        /**
+         * @return the step's failure (AssertionError for a failed check), or null
+         */
+        public Throwable invoke(Map<Class<?>, Object> glue) {
+            try {
+                method.invoke(glue.get(method.getDeclaringClass()), arguments);
+                return null;
+            } catch (InvocationTargetException e) {
+                return e.getCause();
+            } catch (IllegalAccessException e) {
+                return e;
+            }
+        }
+    }
+
+    private final List<Class<?>> classes;
+    private final List<Definition> definitions = new ArrayList<>();
+
+    public StepGlue(List<Class<?>> classes) {
+        this.classes = classes;
+        ExpressionFactory factory = new ExpressionFactory(new ParameterTypeRegistry(Locale.ENGLISH));
+        for (Class<?> type : classes) {
+            for (Method method : type.getMethods()) {
+                for (Annotation annotation : method.getAnnotations()) {
+                    String pattern = pattern(annotation);
+                    if (pattern != null) definitions.add(new Definition(factory.createExpression(pattern), method));
+                }
+            }
+        }
+    }
+
+    private static String pattern(Annotation annotation) {
+        if (annotation instanceof Given given) return given.value();
+        if (annotation instanceof When when) return when.value();
+        if (annotation instanceof Then then) return then.value();
+        if (annotation instanceof And and) return and.value();
+        if (annotation instanceof But but) return but.value();
+        return null;
+    }
+
+    /**
+     * @param table data table rows, empty when the step has none
+     * @throws IllegalStateException when no definition or more than one matches
+     */
+    public BoundStep bind(String text, List<List<String>> table, boolean action) {
+        BoundStep bound = null;
+        for (Definition definition : definitions) {
+            Method method = definition.method();
+            List<Argument<?>> matched = definition.expression().match(text, method.getGenericParameterTypes());
+            if (matched == null) continue;
+            List<Object> arguments = new ArrayList<>();
+            for (Argument<?> argument : matched) arguments.add(argument.getValue());
+            if (!table.isEmpty()) arguments.add(DataTable.create(table, TABLE_CONVERTER));
+            if (arguments.size() != method.getParameterCount()) continue;
+            if (bound != null) {
+                throw new IllegalStateException("Ambiguous step \"" + text + "\": " + bound.method().getName()
+                        + " and " + method.getName());
+            }
+            bound = new BoundStep(text, method, arguments.toArray(), action);
+        }
+        if (bound == null) throw new IllegalStateException("Undefined step: " + text);
+        return bound;
+    }
+
+    /**
+     * Fresh instances of every glue class, one set per virtual user
+     * (as the object factory gives each scenario)
+     */
+    public Map<Class<?>, Object> newInstances() {
+        Map<Class<?>, Object> instances = new LinkedHashMap<>();
+        for (Class<?> type : classes) {
+            try {
+                instances.put(type, type.getDeclaredConstructor().newInstance());
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Cannot create glue " + type.getName(), e);
+            }
+        }
+        return instances;
+    }
+}
@@ -0,0 +1,65 @@
+package com.banking.load;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Stub Backend - In-process stand-in for the banking API when no backend runs
+ * Answers every /api path with a small JSON body after a random delay of
+ * load.stub.latency.ms +- 50%, so the load engine can be exercised anywhere
+ */
+public class StubBackend implements AutoCloseable {
+    private static final String LIST_BODY = "[{\"id\":1,\"first_name\":\"Stub\",\"last_name\":\"User\","
+            + "\"email\":\"stub@bank.test\",\"balance\":1000.0}]";
+    private static final String QUERY_BODY = "{\"success\":true,\"type\":\"query\",\"rows\":[],\"rowCount\":0}";
+
+    private final HttpServer server;
+    private final int latencyMillis;
+
+    public StubBackend(int latencyMillis) throws IOException {
+        this.latencyMillis = latencyMillis;
+        // Headers and body go out as separate writes; with Nagle on, every keep-alive
+        // response stalls ~40ms on the client's delayed ACK
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        server.createContext("/api", this::handle);
+        // Platform threads: client virtual threads pinned in blocking I/O must not starve the stub
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            exchange.getRequestBody().readAllBytes();
+            if (latencyMillis > 0) {
+                int half = Math.max(1, latencyMillis / 2);
+                Thread.sleep(latencyMillis - half + ThreadLocalRandom.current().nextInt(2 * half));
+            }
+            byte[] body = ("POST".equals(exchange.getRequestMethod()) ? QUERY_BODY : LIST_BODY)
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -0,0 +1,29 @@
+package com.banking.runners;
+
+import com.banking.load.FeatureReplay;
+import com.banking.load.LoadTestMain;
+import com.banking.load.StubBackend;
+
+/**
+ * API Load Runner - Replays the @api scenarios as load (no separate scripts)
+ * Usage: mvn -Pload test-compile exec:java -Dload.main=com.banking.runners.APILoadRunner -Dload.rate=5
+ * Each arrival is a virtual user running one scenario's steps through the
+ * same step definitions as APITestRunner; scenarios are picked by
+ * load.feature.weight.<slug> and paced by the load.* profile. Failed checks
+ * count as errors and do not stop the user
+ */
+public class APILoadRunner {
+
+    public static void main(String[] args) throws Exception {
+        if (System.getProperty("api.steps.log") == null) System.setProperty("api.steps.log", "false");
+        StubBackend stub = LoadTestMain.prepare();
+        int status;
+        try {
+            FeatureReplay replay = FeatureReplay.fromConfig();
+            status = LoadTestMain.run(replay.scenarios(), replay::stepReport);
+        } finally {
+            if (stub != null) stub.close();
+        }
+        System.exit(status);
+    }
+}
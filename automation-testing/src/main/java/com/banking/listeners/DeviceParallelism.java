@@ -0,0 +1,26 @@
+package com.banking.listeners;
+
+import com.banking.utils.DeviceFarm;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+
+import java.util.List;
+
+/**
+ * Device Parallelism - Runs as many scenarios at once as there are devices
+ * Sets the suite's data-provider thread count to DeviceFarm.parallelism(), so
+ * parallel scenario threads never outnumber the devices they lease (extra
+ * threads would only wait in DeviceFarm.lease). Add as listener in the
+ * mobile suite xml
+ */
+public class DeviceParallelism implements IAlterSuiteListener {
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        int threads = DeviceFarm.parallelism();
+        for (XmlSuite suite : suites) {
+            suite.setDataProviderThreadCount(threads);
+        }
+        System.out.println("Mobile scenarios in parallel: " + threads);
+    }
+}
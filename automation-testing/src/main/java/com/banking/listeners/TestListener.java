@@ -1,7 +1,12 @@
 package com.banking.listeners;
 
+import com.banking.utils.NetworkRecorder;
+import com.banking.utils.PagePerformance;
+import com.banking.utils.RunMetrics;
 import com.banking.utils.ScreenshotUtil;
 import org.openqa.selenium.WebDriver;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
 import org.testng.ITestContext;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
@@ -11,8 +16,10 @@ import java.time.format.DateTimeFormatter;
 
 /**
  * TestNG Test Listener - Captures test events for reporting and monitoring
+ * Prints framework metrics (RunMetrics), the page performance trend and
+ * browser-side API latencies once the whole suite has finished
  */
-public class TestListener implements ITestListener {
+public class TestListener implements ITestListener, ISuiteListener {
     private static int passed = 0;
     private static int failed = 0;
     private static int skipped = 0;
@@ -93,4 +100,16 @@ public class TestListener implements ITestListener {
                 DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
         System.out.println("========================================");
     }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (PagePerformance.isEnabled()) {
+            PagePerformance.writeTrendReport();
+        }
+        String endpoints = NetworkRecorder.endpointSummary();
+        if (endpoints != null) {
+            System.out.println(endpoints);
+        }
+        RunMetrics.printSummary();
+    }
 }
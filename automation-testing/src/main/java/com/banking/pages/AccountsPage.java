@@ -5,6 +5,7 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Accounts Page - Page Object for Account Management
@@ -26,7 +27,7 @@ public class AccountsPage extends BasePage {
     }
 
     public int getAccountCount() {
-        return driver.findElements(accountsList).size();
+        return findAll(accountsList).size();
     }
 
     public void searchAccount(String query) {
@@ -37,18 +38,36 @@ public class AccountsPage extends BasePage {
         selectByText(accountTypeFilter, accountType);
     }
 
+    /**
+     * All accounts with number, balance and status read in one round trip
+     */
+    public List<RowSnapshot> getAccounts() {
+        return snapshotRows(accountsList, Map.of(
+                "number", accountNumber,
+                "balance", accountBalance,
+                "status", accountStatus));
+    }
+
+    /**
+     * @deprecated snapshots every account to read one field; call getAccounts()
+     * once and read the rows instead
+     */
+    @Deprecated
     public String getAccountNumber(int index) {
-        List<WebElement> accounts = driver.findElements(accountNumber);
-        return accounts.get(index).getText();
+        return getAccounts().get(index).get("number");
     }
 
+    /**
+     * @deprecated snapshots every account to read one field; call getAccounts()
+     * once and read the rows instead
+     */
+    @Deprecated
     public String getAccountBalance(int index) {
-        List<WebElement> balances = driver.findElements(accountBalance);
-        return balances.get(index).getText();
+        return getAccounts().get(index).get("balance");
     }
 
     public void viewAccountDetails(int index) {
-        List<WebElement> buttons = driver.findElements(viewDetailsButton);
+        List<WebElement> buttons = findAll(viewDetailsButton);
         buttons.get(index).click();
     }
 
@@ -1,25 +1,50 @@
 package com.banking.pages;
 
+import io.appium.java_client.AppiumDriver;
+import com.banking.utils.GestureBatch;
+import com.banking.utils.PagePerformance;
 import com.banking.utils.WaitHelper;
+import com.banking.utils.WaitPolicy;
 import org.openqa.selenium.*;
 import org.openqa.selenium.interactions.Actions;
-import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.Select;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Base Page - Common methods for all page objects
  * All page classes extend this
+ * Element lookups go through WaitHelper; the driver's implicit wait is always 0.
+ * PageFactory fields are bound via PageBindings (field scan cached per class)
  */
 public class BasePage {
+    private static final String SNAPSHOT_ROWS_SCRIPT =
+            "var rows = document.querySelectorAll(arguments[0]), fields = arguments[1], out = [];"
+            + "for (var i = 0; i < rows.length; i++) {"
+            + "  var row = {};"
+            + "  for (var name in fields) {"
+            + "    var el = rows[i].querySelector(fields[name]);"
+            + "    row[name] = el ? (el.innerText || el.textContent || '').trim() : null;"
+            + "  }"
+            + "  out.push(row);"
+            + "}"
+            + "return out;";
+
     protected WebDriver driver;
     protected WaitHelper waitHelper;
+    protected WaitHelper presenceWait;
     protected Actions actions;
 
     public BasePage(WebDriver driver) {
         this.driver = driver;
         this.waitHelper = new WaitHelper(driver);
+        this.presenceWait = new WaitHelper(driver, (int) WaitPolicy.presenceTimeout().toSeconds());
         this.actions = new Actions(driver);
-        PageFactory.initElements(driver, this);
+        PageBindings.bind(driver, this);
     }
 
     // ========== Core Actions ==========
@@ -48,16 +73,94 @@ public class BasePage {
         return waitHelper.waitForPresence(locator).getAttribute(attribute);
     }
 
+    /**
+     * Wait briefly (wait.presence.timeout) for the element to become visible
+     */
     protected boolean isDisplayed(By locator) {
         try {
-            return driver.findElement(locator).isDisplayed();
-        } catch (NoSuchElementException e) {
+            return presenceWait.waitForVisible(locator) != null;
+        } catch (TimeoutException e) {
             return false;
         }
     }
 
     protected boolean isEnabled(By locator) {
-        return driver.findElement(locator).isEnabled();
+        return find(locator).isEnabled();
+    }
+
+    // ========== Lookup ==========
+
+    protected WebElement find(By locator) {
+        return waitHelper.waitForPresence(locator);
+    }
+
+    /**
+     * All matches once at least one is present, or an empty list after
+     * wait.presence.timeout
+     */
+    protected List<WebElement> findAll(By locator) {
+        try {
+            presenceWait.waitForPresence(locator);
+        } catch (TimeoutException e) {
+            return List.of();
+        }
+        return driver.findElements(locator);
+    }
+
+    /**
+     * Read every row matching rows and the text of each field inside it in a
+     * single round trip. Field locators are CSS selectors relative to the row;
+     * drivers without JavaScript (Appium) fall back to per-element reads
+     * @return immutable rows in document order, empty after wait.presence.timeout
+     */
+    protected List<RowSnapshot> snapshotRows(By rows, Map<String, By> fields) {
+        try {
+            presenceWait.waitForPresence(rows);
+        } catch (TimeoutException e) {
+            return List.of();
+        }
+        String rowSelector = cssSelectorOf(rows);
+        if (rowSelector == null || !(driver instanceof JavascriptExecutor) || driver instanceof AppiumDriver) {
+            return snapshotRowsByElement(rows, fields);
+        }
+        Map<String, String> fieldSelectors = new LinkedHashMap<>();
+        fields.forEach((name, locator) -> {
+            String selector = cssSelectorOf(locator);
+            if (selector == null) {
+                throw new IllegalArgumentException("Row field '" + name + "' must be a CSS selector: " + locator);
+            }
+            fieldSelectors.put(name, selector);
+        });
+
+        List<?> raw = (List<?>) ((JavascriptExecutor) driver)
+                .executeScript(SNAPSHOT_ROWS_SCRIPT, rowSelector, fieldSelectors);
+        List<RowSnapshot> snapshot = new ArrayList<>(raw.size());
+        for (Object row : raw) {
+            Map<String, String> values = new LinkedHashMap<>();
+            ((Map<?, ?>) row).forEach((name, value) ->
+                    values.put(String.valueOf(name), value != null ? String.valueOf(value) : null));
+            snapshot.add(new RowSnapshot(snapshot.size(), Collections.unmodifiableMap(values)));
+        }
+        return Collections.unmodifiableList(snapshot);
+    }
+
+    private List<RowSnapshot> snapshotRowsByElement(By rows, Map<String, By> fields) {
+        List<RowSnapshot> snapshot = new ArrayList<>();
+        for (WebElement row : driver.findElements(rows)) {
+            Map<String, String> values = new LinkedHashMap<>();
+            fields.forEach((name, locator) -> {
+                List<WebElement> matches = row.findElements(locator);
+                values.put(name, matches.isEmpty() ? null : matches.get(0).getText().trim());
+            });
+            snapshot.add(new RowSnapshot(snapshot.size(), Collections.unmodifiableMap(values)));
+        }
+        return Collections.unmodifiableList(snapshot);
+    }
+
+    private static String cssSelectorOf(By locator) {
+        if (!(locator instanceof By.Remotable)) return null;
+        By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+        return "css selector".equals(parameters.using()) ? String.valueOf(parameters.value()) : null;
     }
 
     // ========== Dropdown ==========
@@ -77,17 +180,17 @@ public class BasePage {
     // ========== JavaScript ==========
 
     protected void jsClick(By locator) {
-        WebElement element = driver.findElement(locator);
+        WebElement element = find(locator);
         ((JavascriptExecutor) driver).executeScript("arguments[0].click();", element);
     }
 
     protected void jsScrollTo(By locator) {
-        WebElement element = driver.findElement(locator);
+        WebElement element = find(locator);
         ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);", element);
     }
 
     protected void jsType(By locator, String text) {
-        WebElement element = driver.findElement(locator);
+        WebElement element = find(locator);
         ((JavascriptExecutor) driver).executeScript("arguments[0].value='" + text + "'", element);
     }
 
@@ -96,6 +199,33 @@ public class BasePage {
     public void navigateTo(String url) {
         driver.get(url);
         waitHelper.waitForPageLoad();
+        capturePagePerformance();
+    }
+
+    /**
+     * Click something that changes the client-side route and, with
+     * perf.capture.enabled=true, record the transition once the URL changed
+     */
+    protected void navigateByClick(By locator) {
+        if (!PagePerformance.isEnabled()) {
+            click(locator);
+            return;
+        }
+        String before = driver.getCurrentUrl();
+        PagePerformance.markTransition(driver);
+        click(locator);
+        try {
+            presenceWait.waitForUrlChange(before);
+            capturePagePerformance();
+        } catch (TimeoutException e) {
+            // Route did not change (e.g. already on that page): nothing to measure
+        }
+    }
+
+    protected void capturePagePerformance() {
+        if (PagePerformance.isEnabled()) {
+            PagePerformance.capture(driver);
+        }
     }
 
     public String getPageTitle() {
@@ -133,18 +263,26 @@ public class BasePage {
     // ========== Actions ==========
 
     protected void hover(By locator) {
-        actions.moveToElement(driver.findElement(locator)).perform();
+        actions.moveToElement(find(locator)).perform();
     }
 
     protected void doubleClick(By locator) {
-        actions.doubleClick(driver.findElement(locator)).perform();
+        actions.doubleClick(find(locator)).perform();
     }
 
     protected void rightClick(By locator) {
-        actions.contextClick(driver.findElement(locator)).perform();
+        actions.contextClick(find(locator)).perform();
     }
 
     protected void dragAndDrop(By source, By target) {
-        actions.dragAndDrop(driver.findElement(source), driver.findElement(target)).perform();
+        actions.dragAndDrop(find(source), find(target)).perform();
+    }
+
+    /**
+     * Start a batch of taps/typing/swipes sent as one W3C Actions call;
+     * locators are resolved when added, once visible
+     */
+    protected GestureBatch gestures() {
+        return new GestureBatch(driver, waitHelper::waitForVisible);
     }
 }
@@ -66,7 +66,7 @@ public class BillPaymentPage extends BasePage {
     }
 
     public int getPaymentHistoryCount() {
-        return driver.findElements(paymentHistory).size();
+        return findAll(paymentHistory).size();
     }
 
     public void schedulePayment() {
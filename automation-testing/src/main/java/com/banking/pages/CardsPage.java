@@ -2,9 +2,9 @@ package com.banking.pages;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.WebElement;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Cards Page - Page Object for Credit/Debit Card Management
@@ -39,17 +39,35 @@ public class CardsPage extends BasePage {
     }
 
     public int getCardCount() {
-        return driver.findElements(cardsList).size();
+        return findAll(cardsList).size();
     }
 
+    /**
+     * All cards with number, type and status read in one round trip
+     */
+    public List<RowSnapshot> getCards() {
+        return snapshotRows(cardsList, Map.of(
+                "number", cardNumber,
+                "type", cardType,
+                "status", cardStatus));
+    }
+
+    /**
+     * @deprecated snapshots every card to read one field; call getCards() once
+     * and read the rows instead
+     */
+    @Deprecated
     public String getCardNumber(int index) {
-        List<WebElement> cards = driver.findElements(cardNumber);
-        return cards.get(index).getText();
+        return getCards().get(index).get("number");
     }
 
+    /**
+     * @deprecated snapshots every card to read one field; call getCards() once
+     * and read the rows instead
+     */
+    @Deprecated
     public String getCardStatus(int index) {
-        List<WebElement> statuses = driver.findElements(cardStatus);
-        return statuses.get(index).getText();
+        return getCards().get(index).get("status");
     }
 
     public String getCreditLimit() {
@@ -104,7 +122,7 @@ public class CardsPage extends BasePage {
     }
 
     public int getTransactionCount() {
-        return driver.findElements(transactionList).size();
+        return findAll(transactionList).size();
     }
 
     public boolean isSuccessDisplayed() {
@@ -48,11 +48,11 @@ public class DashboardPage extends BasePage {
     }
 
     public void navigateToAccounts() {
-        click(accountsMenu);
+        navigateByClick(accountsMenu);
     }
 
     public void navigateToTransfer() {
-        click(transferMenu);
+        navigateByClick(transferMenu);
     }
 
     public void logout() {
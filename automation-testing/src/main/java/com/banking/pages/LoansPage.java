@@ -2,9 +2,9 @@ package com.banking.pages;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.WebElement;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Loans Page - Page Object for Loan Management Module
@@ -33,7 +33,7 @@ public class LoansPage extends BasePage {
     }
 
     public int getLoanCount() {
-        return driver.findElements(loansList).size();
+        return findAll(loansList).size();
     }
 
     public void selectLoanType(String type) {
@@ -64,9 +64,20 @@ public class LoansPage extends BasePage {
         click(applyLoanButton);
     }
 
+    /**
+     * All loans with their status read in one round trip
+     */
+    public List<RowSnapshot> getLoans() {
+        return snapshotRows(loansList, Map.of("status", loanStatusBadge));
+    }
+
+    /**
+     * @deprecated snapshots every loan to read one field; call getLoans() once
+     * and read the rows instead
+     */
+    @Deprecated
     public String getLoanStatus(int index) {
-        List<WebElement> statuses = driver.findElements(loanStatusBadge);
-        return statuses.get(index).getText();
+        return getLoans().get(index).get("status");
     }
 
     public String getOutstandingBalance() {
@@ -74,7 +85,7 @@ public class LoansPage extends BasePage {
     }
 
     public int getRepaymentScheduleCount() {
-        return driver.findElements(repaymentSchedule).size();
+        return findAll(repaymentSchedule).size();
     }
 
     public void makePrepayment() {
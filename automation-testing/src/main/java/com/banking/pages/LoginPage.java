@@ -60,7 +60,7 @@ public class LoginPage extends BasePage {
     }
 
     public void checkRememberMe() {
-        if (!driver.findElement(rememberMeCheckbox).isSelected()) {
+        if (!find(rememberMeCheckbox).isSelected()) {
             click(rememberMeCheckbox);
         }
     }
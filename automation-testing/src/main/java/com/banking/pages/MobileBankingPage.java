@@ -1,13 +1,28 @@
 package com.banking.pages;
 
+import com.banking.utils.ConfigReader;
+import com.banking.utils.GestureBatch;
+import com.banking.utils.LocatorStrategyCache;
+import com.banking.utils.LocatorStrategyCache.Strategy;
+import com.banking.utils.PageSourceSnapshot;
+import com.banking.utils.PageSourceSnapshot.SnapshotNode;
+import com.banking.utils.RunMetrics;
+import com.banking.utils.WaitPolicy;
 import org.openqa.selenium.By;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.Platform;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import io.appium.java_client.AppiumBy;
+
+import java.util.List;
+import java.util.function.Predicate;
 
 /**
  * Mobile Banking Page - Page Object for Appium Mobile Tests
  * Supports Android (UiAutomator2) and iOS (XCUITest) locators
+ * With mobile.snapshot.mode, verification methods read from one parsed page
+ * source (PageSourceSnapshot) that is discarded on the next interaction
  */
 public class MobileBankingPage extends BasePage {
 
@@ -33,22 +48,59 @@ public class MobileBankingPage extends BasePage {
     // Savings account
     private By savingsAccount = By.id("com.banking.app:id/savings_account");
 
+    private final boolean snapshotMode;
+    private PageSourceSnapshot snapshot;
+
     public MobileBankingPage(WebDriver driver) {
         super(driver);
+        this.snapshotMode = ConfigReader.getBoolean("mobile.snapshot.mode", false);
+    }
+
+    // ========== Interactions (invalidate snapshot) ==========
+
+    @Override
+    protected void click(By locator) {
+        snapshot = null;
+        super.click(locator);
+    }
+
+    @Override
+    protected void type(By locator, String text) {
+        snapshot = null;
+        super.type(locator, text);
+    }
+
+    @Override
+    protected GestureBatch gestures() {
+        snapshot = null;
+        return super.gestures();
     }
 
     // ========== Authentication ==========
 
+    /**
+     * On Android the PIN and the submit tap go out as one actions call, after
+     * clearing the field (key actions append to a pre-filled or retried PIN).
+     * XCUITest cannot type W3C key actions into native text fields, so iOS
+     * keeps clear + sendKeys and a separate tap
+     */
     public void loginWithPIN(String pin) {
         try {
-            type(pinInput, pin);
-            click(loginButton);
+            if ("android".equals(platform())) {
+                WebElement field = waitHelper.waitForVisible(pinInput);
+                field.clear();
+                gestures().type(field, pin).tap(loginButton).perform();
+            } else {
+                type(pinInput, pin);
+                click(loginButton);
+            }
         } catch (Exception e) {
             System.out.println("PIN login element not found, trying accessibility id");
         }
     }
 
     public void authenticateFingerprint() {
+        snapshot = null;
         // Android fingerprint authentication simulation
         // In real tests, use Appium's fingerPrint() method
         System.out.println("Simulating fingerprint authentication");
@@ -64,6 +116,7 @@ public class MobileBankingPage extends BasePage {
     }
 
     public void authenticateFaceID() {
+        snapshot = null;
         // iOS Face ID simulation
         System.out.println("Simulating Face ID authentication");
         try {
@@ -78,25 +131,57 @@ public class MobileBankingPage extends BasePage {
 
     // ========== Navigation ==========
 
+    /**
+     * Tap by visible text. The strategy that resolved this text last time
+     * (LocatorStrategyCache) is tried first with a short probe; otherwise
+     * accessibility id, UiAutomator (Android) and XPath are probed in turn
+     * without waiting until one matches or the explicit timeout runs out, with
+     * the cached strategy probed last
+     */
     public void tapElement(String elementText) {
-        try {
-            // Try by text content first
-            By textLocator = AppiumBy.accessibilityId(elementText);
-            click(textLocator);
-        } catch (Exception e) {
+        String platform = platform();
+        Strategy cached = LocatorStrategyCache.lookup(platform, elementText);
+        if (cached != null) {
+            By locator = cached.locator(elementText);
             try {
-                // Try Android UiAutomator
-                By uiAutomator = AppiumBy.androidUIAutomator(
-                        "new UiSelector().text(\"" + elementText + "\")");
-                click(uiAutomator);
-            } catch (Exception e2) {
-                // Fallback to XPath
-                By xpath = By.xpath("//*[contains(@text,'" + elementText + "') or " +
-                        "contains(@content-desc,'" + elementText + "') or " +
-                        "contains(@label,'" + elementText + "')]");
-                click(xpath);
+                presenceWait.waitForPresence(locator);
+                RunMetrics.increment("locator.cache.hit");
+                click(locator);
+                return;
+            } catch (TimeoutException e) {
+                LocatorStrategyCache.forget(platform, elementText);
             }
         }
+        RunMetrics.increment("locator.cache.miss");
+
+        List<Strategy> strategies = LocatorStrategyCache.fallbackOrder(platform, cached);
+        long probeInterval = ConfigReader.getInt("mobile.locator.probe.interval.ms", 250);
+        long deadline = System.nanoTime() + WaitPolicy.explicitTimeout().toNanos();
+        do {
+            for (Strategy strategy : strategies) {
+                By locator = strategy.locator(elementText);
+                if (!driver.findElements(locator).isEmpty()) {
+                    LocatorStrategyCache.remember(platform, elementText, strategy);
+                    click(locator);
+                    return;
+                }
+            }
+            try {
+                Thread.sleep(probeInterval);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        } while (System.nanoTime() < deadline);
+        throw new TimeoutException("No element with text '" + elementText + "' found by " + strategies);
+    }
+
+    private String platform() {
+        if (driver instanceof HasCapabilities) {
+            Platform platform = ((HasCapabilities) driver).getCapabilities().getPlatformName();
+            if (platform != null) return platform.is(Platform.IOS) ? "ios" : "android";
+        }
+        return ConfigReader.get("appium.platform.name", "Android").toLowerCase();
     }
 
     public void navigateToTab(String tabName) {
@@ -149,7 +234,7 @@ public class MobileBankingPage extends BasePage {
 
     public boolean isDashboardDisplayed() {
         try {
-            return isDisplayed(dashboardTitle);
+            return isShown(dashboardTitle);
         } catch (Exception e) {
             return false;
         }
@@ -157,7 +242,7 @@ public class MobileBankingPage extends BasePage {
 
     public boolean isAccountSummaryDisplayed() {
         try {
-            return isDisplayed(accountSummary);
+            return isShown(accountSummary);
         } catch (Exception e) {
             return false;
         }
@@ -165,7 +250,7 @@ public class MobileBankingPage extends BasePage {
 
     public String getAccountBalance() {
         try {
-            return getText(balanceText);
+            return textOf(balanceText);
         } catch (Exception e) {
             return null;
         }
@@ -173,7 +258,7 @@ public class MobileBankingPage extends BasePage {
 
     public boolean isAmountDisplayed() {
         try {
-            return isDisplayed(amountDisplay);
+            return isShown(amountDisplay);
         } catch (Exception e) {
             return false;
         }
@@ -181,9 +266,67 @@ public class MobileBankingPage extends BasePage {
 
     public boolean isTransactionListDisplayed() {
         try {
-            return isDisplayed(transactionList);
+            return isShown(transactionList);
         } catch (Exception e) {
             return false;
         }
     }
+
+    /**
+     * Whether the text appears anywhere on screen
+     */
+    public boolean isTextDisplayed(String text) {
+        if (!snapshotMode) return driver.getPageSource().contains(text);
+        return awaitSnapshot(current -> current.containsText(text));
+    }
+
+    /**
+     * Number of elements matching an XPath, answered from the snapshot when enabled
+     */
+    public int countByXPath(String xpath) {
+        if (!snapshotMode) return driver.findElements(By.xpath(xpath)).size();
+        return snapshot().findByXPath(xpath).size();
+    }
+
+    // ========== Snapshot ==========
+
+    private boolean isShown(By locator) {
+        if (!snapshotMode || !PageSourceSnapshot.supports(locator)) return isDisplayed(locator);
+        return awaitSnapshot(current -> current.findAll(locator).stream().anyMatch(SnapshotNode::isDisplayed));
+    }
+
+    private String textOf(By locator) {
+        if (!snapshotMode || !PageSourceSnapshot.supports(locator)) return getText(locator);
+        if (!awaitSnapshot(current -> !current.findAll(locator).isEmpty())) return getText(locator);
+        return snapshot().findAll(locator).get(0).text();
+    }
+
+    private PageSourceSnapshot snapshot() {
+        if (snapshot == null) {
+            snapshot = PageSourceSnapshot.capture(driver);
+            RunMetrics.increment("mobile.snapshot.captures");
+        } else {
+            RunMetrics.increment("mobile.snapshot.queries.local");
+        }
+        return snapshot;
+    }
+
+    /**
+     * Test the current snapshot; while it does not match, re-capture the page
+     * source until wait.presence.timeout so freshly rendered screens still pass
+     */
+    private boolean awaitSnapshot(Predicate<PageSourceSnapshot> condition) {
+        long deadline = System.nanoTime() + WaitPolicy.presenceTimeout().toNanos();
+        while (true) {
+            if (condition.test(snapshot())) return true;
+            if (System.nanoTime() >= deadline) return false;
+            snapshot = null;
+            try {
+                Thread.sleep(ConfigReader.getInt("mobile.locator.probe.interval.ms", 250));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
 }
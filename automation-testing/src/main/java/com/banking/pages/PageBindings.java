@@ -0,0 +1,82 @@
+package com.banking.pages;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindAll;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.FindBys;
+import org.openqa.selenium.support.pagefactory.DefaultElementLocatorFactory;
+import org.openqa.selenium.support.pagefactory.DefaultFieldDecorator;
+import org.openqa.selenium.support.pagefactory.FieldDecorator;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Page Bindings - PageFactory.initElements with the field scan done once per class
+ * The fields PageFactory would proxy (WebElement, and List&lt;WebElement&gt;
+ * with @FindBy/@FindBys/@FindAll) are found on first use of a page class and
+ * cached in a ClassValue; pages without such fields skip PageFactory entirely
+ */
+final class PageBindings {
+    private static final ClassValue<Field[]> BINDABLE_FIELDS = new ClassValue<>() {
+        @Override
+        protected Field[] computeValue(Class<?> type) {
+            return scan(type);
+        }
+    };
+
+    private PageBindings() {
+    }
+
+    /**
+     * Same result as PageFactory.initElements(driver, page)
+     */
+    static void bind(WebDriver driver, Object page) {
+        Field[] fields = BINDABLE_FIELDS.get(page.getClass());
+        if (fields.length == 0) return;
+
+        FieldDecorator decorator = new DefaultFieldDecorator(new DefaultElementLocatorFactory(driver));
+        ClassLoader loader = page.getClass().getClassLoader();
+        for (Field field : fields) {
+            Object value = decorator.decorate(loader, field);
+            if (value == null) continue;
+            try {
+                field.set(page, value);
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException("Cannot bind " + field + ": " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Walks the hierarchy like PageFactory does (subclass first, up to Object)
+     */
+    private static Field[] scan(Class<?> type) {
+        List<Field> bindable = new ArrayList<>();
+        for (Class<?> current = type; current != Object.class && current != null; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (isBindable(field)) {
+                    field.setAccessible(true);
+                    bindable.add(field);
+                }
+            }
+        }
+        return bindable.toArray(new Field[0]);
+    }
+
+    private static boolean isBindable(Field field) {
+        if (WebElement.class.isAssignableFrom(field.getType())) return true;
+        if (!List.class.isAssignableFrom(field.getType())) return false;
+        if (!field.isAnnotationPresent(FindBy.class) && !field.isAnnotationPresent(FindBys.class)
+                && !field.isAnnotationPresent(FindAll.class)) {
+            return false;
+        }
+        Type generic = field.getGenericType();
+        return generic instanceof ParameterizedType
+                && ((ParameterizedType) generic).getActualTypeArguments()[0] == WebElement.class;
+    }
+}
@@ -0,0 +1,14 @@
+package com.banking.pages;
+
+import java.util.Map;
+
+/**
+ * Row Snapshot - Immutable text values of one repeating row (card, account, loan)
+ * captured by BasePage.snapshotRows; a field is null when the row has no match
+ */
+public record RowSnapshot(int index, Map<String, String> fields) {
+
+    public String get(String field) {
+        return fields.get(field);
+    }
+}
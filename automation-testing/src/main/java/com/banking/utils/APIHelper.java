@@ -1,47 +1,32 @@
 package com.banking.utils;
 
-import io.restassured.RestAssured;
-import io.restassured.http.ContentType;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
 
 import java.util.Map;
 
-import static io.restassured.RestAssured.given;
-
 /**
  * API Helper - Wrapper for REST Assured operations
  * Centralized API testing utility with common methods
+ * Requests start from the shared ApiSpecs specification (base URI, JSON, pooled client)
  */
 public class APIHelper {
-    private static String baseUrl;
-
-    static {
-        baseUrl = ConfigReader.getApiBaseUrl();
-        RestAssured.baseURI = baseUrl;
-    }
 
     // ========== GET Requests ==========
 
     public static Response get(String endpoint) {
-        return given()
-                .contentType(ContentType.JSON)
-                .accept(ContentType.JSON)
+        return ApiSpecs.request()
                 .get(endpoint);
     }
 
     public static Response get(String endpoint, Map<String, String> queryParams) {
-        RequestSpecification request = given()
-                .contentType(ContentType.JSON)
-                .accept(ContentType.JSON);
+        RequestSpecification request = ApiSpecs.request();
         queryParams.forEach(request::queryParam);
         return request.get(endpoint);
     }
 
     public static Response getWithAuth(String endpoint, String authToken) {
-        return given()
-                .contentType(ContentType.JSON)
-                .accept(ContentType.JSON)
+        return ApiSpecs.request()
                 .header("Authorization", "Bearer " + authToken)
                 .get(endpoint);
     }
@@ -49,17 +34,13 @@ public class APIHelper {
     // ========== POST Requests ==========
 
     public static Response post(String endpoint, Object body) {
-        return given()
-                .contentType(ContentType.JSON)
-                .accept(ContentType.JSON)
+        return ApiSpecs.request()
                 .body(body)
                 .post(endpoint);
     }
 
     public static Response post(String endpoint, String jsonBody) {
-        return given()
-                .contentType(ContentType.JSON)
-                .accept(ContentType.JSON)
+        return ApiSpecs.request()
                 .body(jsonBody)
                 .post(endpoint);
     }
@@ -67,9 +48,7 @@ public class APIHelper {
     // ========== PUT Requests ==========
 
     public static Response put(String endpoint, Object body) {
-        return given()
-                .contentType(ContentType.JSON)
-                .accept(ContentType.JSON)
+        return ApiSpecs.request()
                 .body(body)
                 .put(endpoint);
     }
@@ -77,17 +56,14 @@ public class APIHelper {
     // ========== DELETE Requests ==========
 
     public static Response delete(String endpoint) {
-        return given()
-                .contentType(ContentType.JSON)
+        return ApiSpecs.request()
                 .delete(endpoint);
     }
 
     // ========== PATCH Requests ==========
 
     public static Response patch(String endpoint, Object body) {
-        return given()
-                .contentType(ContentType.JSON)
-                .accept(ContentType.JSON)
+        return ApiSpecs.request()
                 .body(body)
                 .patch(endpoint);
     }
@@ -116,6 +92,25 @@ public class APIHelper {
 
     // ========== Schema Validation ==========
 
+    /**
+     * Validate a GET response body against its endpoint's schema (ApiSchemas)
+     */
+    public static void validateSchema(Response response, String endpoint) {
+        validateSchema(response, "GET", endpoint);
+    }
+
+    /**
+     * Validate the whole response body against the compiled, cached schema
+     * for the endpoint; the error lists every violation's JSON path
+     */
+    public static void validateSchema(Response response, String method, String endpoint) {
+        JsonSchema.Result result = ApiSchemas.forEndpoint(method, endpoint).validate(response.asString());
+        if (!result.passed()) {
+            throw new AssertionError(
+                    method + " " + endpoint + " response does not match its schema: " + result.summary());
+        }
+    }
+
     public static void validateResponseTime(Response response, long maxMillis) {
         long responseTime = response.getTime();
         if (responseTime > maxMillis) {
@@ -0,0 +1,97 @@
+package com.banking.utils;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * API Schemas - Response contracts for the backend endpoints
+ * endpoints.json in api.schema.dir (default src/test/resources/schemas) maps
+ * "METHOD /api/path/{param}" to a schema file in the same directory. Each
+ * schema is compiled on first use and cached for the JVM, both by file (so
+ * $refs share it) and by endpoint, so validating a response costs one parse
+ * and one walk of the compiled checks
+ */
+public class ApiSchemas {
+    private static final Path DIR = Paths.get(ConfigReader.get("api.schema.dir", "src/test/resources/schemas"));
+    private static final Map<String, JsonSchema> BY_FILE = new ConcurrentHashMap<>();
+    private static final Map<String, JsonSchema> BY_ENDPOINT = new ConcurrentHashMap<>();
+    private static volatile List<Route> routes;
+
+    /**
+     * @param key "METHOD /api/path/{param}" as written in endpoints.json
+     */
+    private record Route(String key, String method, Pattern path, String file) {
+    }
+
+    private ApiSchemas() {
+    }
+
+    /**
+     * Compiled schema for a concrete request, e.g. ("GET", "/api/customers/1?x=y")
+     * @throws IllegalArgumentException when endpoints.json has no entry for it
+     */
+    public static JsonSchema forEndpoint(String method, String endpoint) {
+        String path = endpoint.split("\\?", 2)[0];
+        String verb = method.toUpperCase();
+        for (Route route : routes()) {
+            if (route.method().equals(verb) && route.path().matcher(path).matches()) {
+                return BY_ENDPOINT.computeIfAbsent(route.key(), key -> schema(route.file()));
+            }
+        }
+        throw new IllegalArgumentException("No response schema for " + verb + " " + path + " in "
+                + DIR.resolve("endpoints.json"));
+    }
+
+    /**
+     * Compiled schema file from api.schema.dir
+     */
+    public static JsonSchema schema(String file) {
+        JsonSchema schema = BY_FILE.get(file);
+        if (schema != null) return schema;
+        // Compiled outside computeIfAbsent: the map must not be updated while a mapping is computed
+        schema = JsonSchema.compile(read(file).getAsJsonObject(), ApiSchemas::schema);
+        JsonSchema previous = BY_FILE.putIfAbsent(file, schema);
+        return previous != null ? previous : schema;
+    }
+
+    private static List<Route> routes() {
+        List<Route> loaded = routes;
+        if (loaded != null) return loaded;
+        synchronized (ApiSchemas.class) {
+            if (routes == null) {
+                List<Route> parsed = new ArrayList<>();
+                JsonObject index = read("endpoints.json").getAsJsonObject();
+                for (Map.Entry<String, JsonElement> entry : index.entrySet()) {
+                    String[] parts = entry.getKey().trim().split("\\s+", 2);
+                    // {param} matches one path segment; the rest is literal
+                    String regex = Pattern.quote(parts[1]).replaceAll("\\{[^}/]+}", "\\\\E[^/]+\\\\Q");
+                    parsed.add(new Route(entry.getKey(), parts[0].toUpperCase(), Pattern.compile(regex),
+                            entry.getValue().getAsString()));
+                }
+                routes = List.copyOf(parsed);
+            }
+            return routes;
+        }
+    }
+
+    private static JsonElement read(String file) {
+        try (Reader reader = Files.newBufferedReader(DIR.resolve(file))) {
+            return JsonParser.parseReader(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read schema " + DIR.resolve(file), e);
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.banking.utils;
+
+import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import io.restassured.specification.RequestSpecification;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.conn.ClientConnectionOperator;
+import org.apache.http.conn.OperatedClientConnection;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.DefaultClientConnectionOperator;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.params.BasicHttpParams;
+import org.apache.http.params.HttpConnectionParams;
+import org.apache.http.params.HttpParams;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.util.EntityUtils;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * API Specs - Shared, prebuilt REST Assured request specification per environment
+ * Base URI, JSON content type/accept and the HTTP client config are built once;
+ * request() derives a fresh specification from it, so nothing global
+ * (RestAssured.baseURI) is mutated and parallel scenarios do not race.
+ * Every request gets its own lightweight client on one pooled, keep-alive
+ * connection manager (api.pool.max.total / api.pool.max.per.route)
+ */
+public class ApiSpecs {
+    private static final Map<String, RequestSpecification> specs = new ConcurrentHashMap<>();
+    // One permit per pooled connection; see releaseConnection
+    private static final Semaphore leases = new Semaphore(PooledClients.maxLeases(), true);
+    private static final HttpClient directClient = PooledClients.newClient();
+
+    static {
+        RunMetrics.registerGauge("api.pool", ApiSpecs::poolStats);
+    }
+
+    /**
+     * @return a new request for the current environment, ready to add
+     * headers/body to and send
+     */
+    public static RequestSpecification request() {
+        return RestAssured.given(forEnvironment(environment()));
+    }
+
+    /**
+     * Shared specification for an environment; base URL is
+     * api.base.url.&lt;env&gt; when set, otherwise api.base.url
+     */
+    public static RequestSpecification forEnvironment(String env) {
+        return specs.computeIfAbsent(env.toLowerCase(), key -> new RequestSpecBuilder()
+                .setBaseUri(baseUrl(key))
+                .setContentType(ContentType.JSON)
+                .setAccept(ContentType.JSON)
+                .setConfig(RestAssuredConfig.config().httpClient(HttpClientConfig.httpClientConfig()
+                        .httpClientFactory(PooledClients::newClient)))
+                .addFilter(ApiSpecs::releaseConnection)
+                .build());
+    }
+
+    public static String baseUrl(String env) {
+        return ConfigReader.get("api.base.url." + env.toLowerCase(), ConfigReader.getApiBaseUrl());
+    }
+
+    /**
+     * REST Assured reads bodies lazily; a response checked only for its status
+     * would keep its pooled connection leased. Buffering the body releases it,
+     * at the cost of holding every body in memory as bytes (O(body)); steps
+     * may then read it more than once.
+     * Callers also wait here for a free connection: HttpClient 4 waits for a
+     * lease inside a monitor, which pins a virtual thread to its carrier, and
+     * enough pinned waiters starve the threads that would free a connection
+     */
+    private static Response releaseConnection(FilterableRequestSpecification request,
+                                              FilterableResponseSpecification response, FilterContext context) {
+        leases.acquireUninterruptibly();
+        try {
+            Response result = context.next(request, response);
+            result.getBody().asByteArray();
+            return result;
+        } finally {
+            leases.release();
+        }
+    }
+
+    /**
+     * Status and fully read body of a request sent with send()
+     */
+    public record Reply(int status, String body) {
+    }
+
+    /**
+     * Send a JSON request for the current environment straight through the
+     * pooled client, skipping REST Assured's per-request spec and filter
+     * chain; for table-driven checks where that overhead dominates
+     * @param body JSON body, or null/blank for none
+     */
+    public static Reply send(String method, String path, String body) throws IOException {
+        RequestBuilder builder = RequestBuilder.create(method)
+                .setUri(baseUrl(environment()) + path)
+                .setHeader(HttpHeaders.ACCEPT, ContentType.JSON.getAcceptHeader());
+        if (body != null && !body.isBlank()) {
+            builder.setEntity(new StringEntity(body, org.apache.http.entity.ContentType.APPLICATION_JSON));
+        }
+        leases.acquireUninterruptibly();
+        try {
+            HttpResponse response = directClient.execute(builder.build());
+            HttpEntity entity = response.getEntity();
+            return new Reply(response.getStatusLine().getStatusCode(),
+                    entity != null ? EntityUtils.toString(entity, StandardCharsets.UTF_8) : "");
+        } finally {
+            leases.release();
+        }
+    }
+
+    public static String environment() {
+        String env = ConfigReader.get("env");
+        // Surefire passes an unset -Denv through as the literal "${env}"
+        if (env == null || env.isBlank() || env.startsWith("${")) {
+            env = ConfigReader.get("environment", "QA");
+        }
+        return env;
+    }
+
+    /**
+     * @return leased/available/max connections and how many TCP connections
+     * were opened for how many requests
+     */
+    public static String poolStats() {
+        PoolStats stats = PooledClients.stats();
+        long requests = RunMetrics.getCount("api.requests");
+        long opened = PooledClients.opened();
+        return String.format("leased=%d available=%d pending=%d max=%d opened=%d requests=%d reuse=%.0f%%",
+                stats.getLeased(), stats.getAvailable(), stats.getPending(), stats.getMax(), opened, requests,
+                requests > 0 ? Math.max(0, requests - opened) * 100.0 / requests : 0);
+    }
+
+    // ========== HTTP client ==========
+
+    /**
+     * The only place the deprecated HttpClient 4 API is used. REST Assured
+     * casts whatever its HttpClientFactory returns to AbstractHttpClient, so
+     * an HttpClientBuilder client fails on the first request; DefaultHttpClient
+     * on a PoolingClientConnectionManager is what plugs in. REST Assured
+     * adjusts client params per request, so each request gets its own client;
+     * only the connection pool is shared
+     */
+    @SuppressWarnings("deprecation")
+    private static final class PooledClients {
+        private static final CountingConnectionManager pool = createPool();
+
+        static HttpClient newClient() {
+            HttpParams params = new BasicHttpParams();
+            HttpConnectionParams.setConnectionTimeout(params, ConfigReader.getInt("api.connect.timeout.ms", 5000));
+            HttpConnectionParams.setSoTimeout(params, ConfigReader.getInt("api.socket.timeout.ms", 30000));
+            HttpConnectionParams.setTcpNoDelay(params, true);
+            DefaultHttpClient client = new DefaultHttpClient(pool, params);
+            client.addRequestInterceptor((request, context) -> RunMetrics.increment("api.requests"));
+            return client;
+        }
+
+        static int maxLeases() {
+            return Math.min(pool.getMaxTotal(), pool.getDefaultMaxPerRoute());
+        }
+
+        static PoolStats stats() {
+            return pool.getTotalStats();
+        }
+
+        static long opened() {
+            return pool.opened.sum();
+        }
+
+        private static CountingConnectionManager createPool() {
+            CountingConnectionManager manager = new CountingConnectionManager(
+                    ConfigReader.getInt("api.pool.connection.ttl.ms", 60000));
+            manager.setMaxTotal(ConfigReader.getInt("api.pool.max.total", 50));
+            manager.setDefaultMaxPerRoute(ConfigReader.getInt("api.pool.max.per.route", 10));
+            Runtime.getRuntime().addShutdownHook(new Thread(manager::shutdown, "api-pool-shutdown"));
+            return manager;
+        }
+    }
+
+    /**
+     * Pooling manager that counts physical connections opened (TCP setups)
+     */
+    @SuppressWarnings("deprecation")
+    private static class CountingConnectionManager extends PoolingClientConnectionManager {
+        private final LongAdder opened = new LongAdder();
+
+        CountingConnectionManager(long ttlMillis) {
+            super(SchemeRegistryFactory.createDefault(), ttlMillis, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        protected ClientConnectionOperator createConnectionOperator(SchemeRegistry schemes) {
+            return new DefaultClientConnectionOperator(schemes) {
+                @Override
+                public void openConnection(OperatedClientConnection connection, HttpHost target, InetAddress local,
+                                           HttpContext context, HttpParams params) throws IOException {
+                    super.openConnection(connection, target, local, context, params);
+                    opened.increment();
+                    RunMetrics.increment("api.connections.opened");
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.banking.utils;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+
+/**
+ * API Table Executor - Runs table-driven API checks from a CSV file
+ * Columns: test_id, method, endpoint, request_body, expected_status,
+ * expected_field, expected_value, description. Rows are streamed and sent
+ * concurrently (api.csv.parallelism, default the per-route pool size) on
+ * virtual threads through the pooled ApiSpecs client (ApiSpecs.send, without
+ * REST Assured's per-request cost). Each row checks the
+ * status and, when expected_field is set, that field's value (or just its
+ * presence when expected_value is empty). Only GET/HEAD/OPTIONS rows are
+ * treated as read-only; any other row may change backend data (e.g. SQL
+ * statements via /api/sql/execute) and is skipped unless
+ * api.csv.side.effects=true, in which case those rows run one at a time after
+ * every read-only row has finished
+ */
+public class ApiTableExecutor {
+    private static final Set<String> READ_ONLY_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    /**
+     * One CSV row
+     * @param row 1-based data row number
+     */
+    public record Check(int row, String id, String method, String endpoint, String body, int expectedStatus,
+                        String expectedField, String expectedValue, String description) {
+
+        static Check from(int row, Map<String, String> values) {
+            String status = values.getOrDefault("expected_status", "").trim();
+            return new Check(row, values.getOrDefault("test_id", "row " + row).trim(),
+                    values.getOrDefault("method", "GET").trim().toUpperCase(),
+                    values.getOrDefault("endpoint", "").trim(),
+                    values.getOrDefault("request_body", ""),
+                    status.isEmpty() ? 200 : Integer.parseInt(status),
+                    values.getOrDefault("expected_field", "").trim(),
+                    values.getOrDefault("expected_value", ""),
+                    values.getOrDefault("description", ""));
+        }
+
+        public boolean readOnly() {
+            return READ_ONLY_METHODS.contains(method);
+        }
+    }
+
+    /**
+     * @param status response status, -1 when no response arrived (or skipped)
+     * @param failure null when every check on the row passed
+     * @param skipped side-effecting row not run (api.csv.side.effects off)
+     */
+    public record Result(Check check, int status, long nanos, String failure, boolean skipped) {
+        static Result skip(Check check) {
+            return new Result(check, -1, 0, null, true);
+        }
+
+        public boolean passed() {
+            return failure == null;
+        }
+
+        public double millis() {
+            return nanos / 1e6;
+        }
+    }
+
+    public record Report(Path file, List<Result> results, long wallNanos) {
+
+        public List<Result> failures() {
+            return results.stream().filter(result -> !result.passed()).toList();
+        }
+
+        public List<Result> skipped() {
+            return results.stream().filter(Result::skipped).toList();
+        }
+
+        public String format() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(String.format("%-10s %-6s %-45s %6s %9s  %s%n", "id", "method", "endpoint", "status", "ms",
+                    "result"));
+            for (Result result : results) {
+                Check check = result.check();
+                sb.append(String.format("%-10s %-6s %-45s %6d %9.1f  %s%n", check.id(), check.method(),
+                        abbreviate(check.endpoint(), 45), result.status(), result.millis(),
+                        result.skipped() ? "SKIP side effects (api.csv.side.effects=true to run)"
+                                : result.passed() ? "PASS" : "FAIL " + result.failure()));
+            }
+            double[] latencies = results.stream().filter(result -> !result.skipped())
+                    .mapToDouble(Result::millis).sorted().toArray();
+            double seconds = wallNanos / 1e9;
+            int skipped = skipped().size();
+            sb.append(String.format("%d rows from %s: %d passed, %d failed, %d skipped in %.2fs (%.0f rows/s)%n",
+                    results.size(), file, results.size() - failures().size() - skipped, failures().size(), skipped,
+                    seconds, seconds > 0 ? latencies.length / seconds : 0));
+            if (latencies.length > 0) {
+                sb.append(String.format("Row latency ms: p50 %.1f, p90 %.1f, p99 %.1f, max %.1f%n",
+                        percentile(latencies, 50), percentile(latencies, 90), percentile(latencies, 99),
+                        latencies[latencies.length - 1]));
+            }
+            return sb.toString().trim();
+        }
+
+        private static String abbreviate(String text, int width) {
+            return text.length() <= width ? text : text.substring(0, width - 3) + "...";
+        }
+
+        private static double percentile(double[] sorted, double percentile) {
+            int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+        }
+    }
+
+    /**
+     * Run every row of the file with the configured parallelism and
+     * side-effect setting
+     */
+    public static Report run(Path file) throws IOException, InterruptedException {
+        return run(file, ConfigReader.getInt("api.csv.parallelism", ConfigReader.getInt("api.pool.max.per.route", 10)),
+                ConfigReader.getBoolean("api.csv.side.effects", false));
+    }
+
+    /**
+     * Run the read-only rows of the file, at most parallelism at a time; rows
+     * are read only as slots free up, so the file is never loaded whole.
+     * Side-effecting rows are never mixed into that batch: they run serially
+     * afterwards when sideEffects is set, and are reported skipped otherwise
+     * @return results in file order
+     */
+    public static Report run(Path file, int parallelism, boolean sideEffects)
+            throws IOException, InterruptedException {
+        Queue<Result> results = new ConcurrentLinkedQueue<>();
+        List<Check> serial = new ArrayList<>();
+        Semaphore slots = new Semaphore(parallelism);
+        long start = System.nanoTime();
+        try (Stream<Map<String, String>> rows = CsvReader.rows(file);
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Iterator<Map<String, String>> iterator = rows.iterator();
+            for (int row = 1; iterator.hasNext(); row++) {
+                Check check = Check.from(row, iterator.next());
+                if (!check.readOnly()) {
+                    if (sideEffects) {
+                        serial.add(check);
+                    } else {
+                        results.add(Result.skip(check));
+                    }
+                    continue;
+                }
+                slots.acquire();
+                executor.execute(() -> {
+                    try {
+                        results.add(execute(check));
+                    } finally {
+                        slots.release();
+                    }
+                });
+            }
+        }
+        for (Check check : serial) results.add(execute(check));
+        List<Result> ordered = new ArrayList<>(results);
+        ordered.sort(Comparator.comparingInt(result -> result.check().row()));
+        return new Report(file, ordered, System.nanoTime() - start);
+    }
+
+    /**
+     * Send one row's request and check the response
+     */
+    public static Result execute(Check check) {
+        long start = System.nanoTime();
+        try {
+            ApiSpecs.Reply reply = ApiSpecs.send(check.method(), check.endpoint(), check.body());
+            long nanos = System.nanoTime() - start;
+            RunMetrics.recordNanos("api.csv.request", nanos);
+            return new Result(check, reply.status(), nanos, verify(check, reply), false);
+        } catch (Exception e) {
+            RunMetrics.increment("api.csv.error");
+            return new Result(check, -1, System.nanoTime() - start,
+                    e.getClass().getSimpleName() + ": " + e.getMessage(), false);
+        }
+    }
+
+    private static String verify(Check check, ApiSpecs.Reply reply) {
+        List<String> failures = new ArrayList<>();
+        if (reply.status() != check.expectedStatus()) {
+            failures.add("status " + reply.status() + ", expected " + check.expectedStatus());
+        }
+        if (!check.expectedField().isEmpty()) {
+            String actual = fieldValue(reply.body(), check.expectedField());
+            if (actual == null) {
+                failures.add("'" + check.expectedField() + "' missing");
+            } else if (!check.expectedValue().isEmpty() && !actual.equals(check.expectedValue())) {
+                failures.add("'" + check.expectedField() + "' is '" + actual + "', expected '"
+                        + check.expectedValue() + "'");
+            }
+        }
+        return failures.isEmpty() ? null : String.join("; ", failures);
+    }
+
+    /**
+     * Dotted path lookup ("data.items.0.id") on the parsed body; scalars as
+     * their JSON text, null when absent or the body is not JSON. Plain gson
+     * instead of JsonPath, whose per-call expression compile dominates a
+     * fast row
+     */
+    static String fieldValue(String body, String path) {
+        JsonElement node;
+        try {
+            node = JsonParser.parseString(body);
+        } catch (JsonParseException e) {
+            return null;
+        }
+        for (String key : path.split("\\.")) {
+            if (node.isJsonObject()) {
+                node = node.getAsJsonObject().get(key);
+            } else if (node.isJsonArray() && key.chars().allMatch(Character::isDigit)) {
+                JsonArray array = node.getAsJsonArray();
+                int index = Integer.parseInt(key);
+                node = index < array.size() ? array.get(index) : null;
+            } else {
+                return null;
+            }
+            if (node == null || node.isJsonNull()) return null;
+        }
+        return node.isJsonPrimitive() ? node.getAsString() : node.toString();
+    }
+}
@@ -0,0 +1,300 @@
+package com.banking.utils;
+
+import io.appium.java_client.AppiumDriver;
+import org.openqa.selenium.Alert;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Command Tracer - Times every WebDriver command through an EventFiringDecorator
+ * Each thread records into its own fixed-size ring buffer plus per-command
+ * aggregates, so recording is allocation-free and lock-free. Per scenario it
+ * reports a latency histogram per command, the slowest commands and the
+ * tracer's own overhead (calibrated against a no-op driver)
+ */
+public class CommandTracer implements WebDriverListener {
+    private static final Set<String> UNTRACED = Set.of(
+            "manage", "navigate", "switchTo", "window", "timeouts", "getWrappedDriver",
+            "getCapabilities", "toString", "hashCode", "equals");
+    /** Histogram bucket upper bounds in ms; the last bucket is open-ended */
+    private static final long[] BUCKETS_MS = {1, 5, 10, 50, 100, 500, 1000, 5000};
+    private static final String[] BUCKET_LABELS = {"<1", "<5", "<10", "<50", "<100", "<500", "<1s", "<5s", ">=5s"};
+
+    private static final CommandTracer LISTENER = new CommandTracer();
+    private static final ThreadLocal<Trace> traces = ThreadLocal.withInitial(Trace::new);
+    private static volatile long perCallOverheadNanos = -1;
+
+    static {
+        RunMetrics.registerGauge("command.trace.overhead.per.call", () ->
+                perCallOverheadNanos >= 0 ? String.format("%.1fus", perCallOverheadNanos / 1000.0) : "n/a");
+    }
+
+    public static boolean isEnabled() {
+        return ConfigReader.getBoolean("command.trace.enabled", false);
+    }
+
+    /**
+     * Wrap a browser driver so every command is traced (Appium drivers are
+     * left alone: the decorator proxy hides their concrete driver class)
+     */
+    public static WebDriver decorate(WebDriver driver) {
+        if (driver instanceof AppiumDriver) return driver;
+        if (perCallOverheadNanos < 0) calibrate();
+        return new EventFiringDecorator<>(LISTENER).decorate(driver);
+    }
+
+    /**
+     * @return the driver behind a tracing decorator, or the driver itself
+     */
+    public static WebDriver undecorate(WebDriver driver) {
+        if (driver instanceof WrapsDriver && !Proxy.isProxyClass(driver.getClass())) {
+            return ((WrapsDriver) driver).getWrappedDriver();
+        }
+        return driver;
+    }
+
+    public static void startScenario() {
+        traces.get().reset();
+    }
+
+    // ========== Listener ==========
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        Trace trace = traces.get();
+        if (trace.depth < trace.starts.length) {
+            trace.starts[trace.depth] = System.nanoTime();
+        }
+        trace.depth++;
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        record(target, method, args, true);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        record(target, method, args, false);
+    }
+
+    private static void record(Object target, Method method, Object[] args, boolean ok) {
+        long end = System.nanoTime();
+        Trace trace = traces.get();
+        trace.depth--;
+        if (trace.depth < 0 || trace.depth >= trace.starts.length) {
+            trace.depth = Math.max(trace.depth, 0);
+            return;
+        }
+        if (UNTRACED.contains(method.getName())) return;
+        Object locator = args != null && args.length > 0 && args[0] instanceof By ? args[0]
+                : target instanceof WebElement ? target : null;
+        trace.add(commandName(target, method), locator, end - trace.starts[trace.depth], ok);
+        trace.selfNanos += System.nanoTime() - end;
+    }
+
+    private static String commandName(Object target, Method method) {
+        String name = method.getName();
+        if (target instanceof WebElement) return "element." + name;
+        if (target instanceof WebDriver) return name;
+        if (target instanceof WebDriver.Navigation) return "navigate." + name;
+        if (target instanceof WebDriver.TargetLocator) return "switchTo." + name;
+        if (target instanceof Alert) return "alert." + name;
+        return "manage." + name;
+    }
+
+    // ========== Reporting ==========
+
+    /**
+     * Per-command histogram and slowest commands for this thread's scenario;
+     * failed scenarios also get the most recent commands from the ring buffer
+     * @return report text, or null when nothing was traced
+     */
+    public static String scenarioReport(boolean failed) {
+        Trace trace = traces.get();
+        if (trace.recorded == 0) return null;
+
+        StringBuilder sb = new StringBuilder("WebDriver commands: ").append(trace.recorded)
+                .append(String.format(", %.1fms total%n", trace.totalNanos / 1_000_000.0));
+        sb.append(String.format("  %-28s %6s %10s %9s %9s  %s%n", "command", "count", "total", "avg", "max",
+                String.join(" ", BUCKET_LABELS) + " (ms)"));
+        trace.stats.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, CommandStats> e) -> e.getValue().totalNanos).reversed())
+                .forEach(e -> {
+                    CommandStats s = e.getValue();
+                    StringBuilder buckets = new StringBuilder();
+                    for (int count : s.buckets) buckets.append(buckets.length() > 0 ? " " : "").append(count);
+                    sb.append(String.format("  %-28s %6d %8.1fms %7.2fms %7.1fms  %s%s%n", e.getKey(), s.count,
+                            s.totalNanos / 1_000_000.0, s.totalNanos / 1_000_000.0 / s.count,
+                            s.maxNanos / 1_000_000.0, buckets, s.errors > 0 ? "  errors=" + s.errors : ""));
+                });
+
+        sb.append("  Slowest:\n");
+        for (Entry entry : trace.slowest) {
+            sb.append("    ").append(entry.describe()).append('\n');
+        }
+        if (failed) {
+            sb.append("  Last commands:\n");
+            for (Entry entry : trace.recent()) {
+                sb.append("    ").append(entry.describe()).append('\n');
+            }
+        }
+
+        long overhead = trace.recorded * Math.max(perCallOverheadNanos, 0) + trace.selfNanos;
+        double percent = trace.totalNanos > 0 ? overhead * 100.0 / trace.totalNanos : 0;
+        sb.append(String.format("  Tracing overhead (upper bound): %.2fms (%.3f%% of command time)", overhead / 1_000_000.0, percent));
+        RunMetrics.add("command.trace.commands", trace.recorded);
+        RunMetrics.recordNanos("command.trace.overhead", overhead);
+        return sb.toString();
+    }
+
+    /**
+     * Measure decorator + listener cost per call against a driver that does
+     * nothing, on a separate thread so the caller's trace is untouched
+     */
+    private static synchronized void calibrate() {
+        if (perCallOverheadNanos >= 0) return;
+        Thread calibration = new Thread(() -> {
+            WebDriver noop = (WebDriver) Proxy.newProxyInstance(CommandTracer.class.getClassLoader(),
+                    new Class<?>[]{WebDriver.class}, (proxy, method, args) -> null);
+            WebDriver traced = new EventFiringDecorator<>(LISTENER).decorate(noop);
+            int calls = 20_000;
+            for (int i = 0; i < calls; i++) { // warm-up
+                traced.getTitle();
+                noop.getTitle();
+            }
+            long start = System.nanoTime();
+            for (int i = 0; i < calls; i++) traced.getTitle();
+            long tracedNanos = System.nanoTime() - start;
+            start = System.nanoTime();
+            for (int i = 0; i < calls; i++) noop.getTitle();
+            long rawNanos = System.nanoTime() - start;
+            perCallOverheadNanos = Math.max(0, (tracedNanos - rawNanos) / calls);
+        }, "command-tracer-calibration");
+        calibration.start();
+        try {
+            calibration.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ========== Per-thread state ==========
+
+    private static class Trace {
+        private final Entry[] ring = new Entry[ConfigReader.getInt("command.trace.buffer.size", 512)];
+        private final int topN = ConfigReader.getInt("command.trace.top", 10);
+        private final List<Entry> slowest = new ArrayList<>();
+        private final Map<String, CommandStats> stats = new HashMap<>();
+        private final long[] starts = new long[16];
+        private int depth;
+        private int next;
+        private long recorded;
+        private long totalNanos;
+        private long selfNanos;
+
+        Trace() {
+            for (int i = 0; i < ring.length; i++) ring[i] = new Entry();
+        }
+
+        void add(String name, Object locator, long nanos, boolean ok) {
+            Entry entry = ring[next];
+            next = (next + 1) % ring.length;
+            entry.set(name, locator, nanos, ok);
+            recorded++;
+            totalNanos += nanos;
+            stats.computeIfAbsent(name, k -> new CommandStats()).add(nanos, ok);
+
+            if (slowest.size() < topN || nanos > slowest.get(slowest.size() - 1).nanos) {
+                Entry copy = new Entry();
+                copy.set(name, locator, nanos, ok);
+                int at = 0;
+                while (at < slowest.size() && slowest.get(at).nanos >= nanos) at++;
+                slowest.add(at, copy);
+                if (slowest.size() > topN) slowest.remove(slowest.size() - 1);
+            }
+        }
+
+        List<Entry> recent() {
+            int count = (int) Math.min(recorded, Math.min(ring.length, 20));
+            List<Entry> result = new ArrayList<>(count);
+            for (int i = count; i > 0; i--) {
+                result.add(ring[(next - i + ring.length) % ring.length]);
+            }
+            return result;
+        }
+
+        void reset() {
+            slowest.clear();
+            stats.clear();
+            depth = 0;
+            recorded = 0;
+            totalNanos = 0;
+            selfNanos = 0;
+            for (Entry entry : ring) entry.set(null, null, 0, true);
+        }
+    }
+
+    private static class Entry {
+        private String name;
+        private Object locator;
+        private long nanos;
+        private boolean ok;
+
+        void set(String name, Object locator, long nanos, boolean ok) {
+            this.name = name;
+            this.locator = locator;
+            this.nanos = nanos;
+            this.ok = ok;
+        }
+
+        /**
+         * Locators are rendered only when reported; an element renders as the
+         * "-> strategy: value" part of its toString
+         */
+        String describe() {
+            String target = "";
+            if (locator instanceof By) {
+                target = " " + locator;
+            } else if (locator != null) {
+                String text = String.valueOf(locator);
+                int arrow = text.lastIndexOf("-> ");
+                target = arrow >= 0 ? " [" + text.substring(arrow + 3).replaceAll("]+$", "") + "]" : "";
+            }
+            return String.format("%8.1fms %s%s%s", nanos / 1_000_000.0, name, target, ok ? "" : " FAILED");
+        }
+    }
+
+    private static class CommandStats {
+        private final int[] buckets = new int[BUCKET_LABELS.length];
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+        private long errors;
+
+        void add(long nanos, boolean ok) {
+            count++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+            if (!ok) errors++;
+            long millis = nanos / 1_000_000;
+            int bucket = 0;
+            while (bucket < BUCKETS_MS.length && millis >= BUCKETS_MS[bucket]) bucket++;
+            buckets[bucket]++;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.banking.utils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * CSV Reader - Streaming RFC 4180 reader, one record at a time
+ * A field that starts with a quote may hold commas, newlines and doubled
+ * quotes (""); quotes inside an unquoted field are literal, so unquoted JSON
+ * bodies without commas still read as-is. Only the current record is held in
+ * memory, however long the file
+ */
+public class CsvReader implements Closeable {
+    private final Reader in;
+    private final char[] buffer = new char[8192];
+    private int position;
+    private int limit;
+    private int line = 1;
+
+    public CsvReader(Reader in) {
+        this.in = in;
+    }
+
+    /**
+     * Stream a file's records as header -> value maps (blank lines skipped,
+     * missing trailing fields read as ""); close the stream to close the file
+     */
+    public static Stream<Map<String, String>> rows(Path file) throws IOException {
+        CsvReader reader = new CsvReader(Files.newBufferedReader(file));
+        List<String> header = reader.readRecord();
+        if (header == null) {
+            reader.close();
+            return Stream.empty();
+        }
+        Iterator<Map<String, String>> iterator = new Iterator<>() {
+            private List<String> next = reader.readNonBlank();
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public Map<String, String> next() {
+                if (next == null) throw new NoSuchElementException();
+                Map<String, String> row = new LinkedHashMap<>();
+                for (int i = 0; i < header.size(); i++) {
+                    row.put(header.get(i).trim(), i < next.size() ? next.get(i) : "");
+                }
+                next = reader.readNonBlank();
+                return row;
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                        Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(() -> {
+                    try {
+                        reader.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    private List<String> readNonBlank() {
+        try {
+            List<String> record;
+            do {
+                record = readRecord();
+            } while (record != null && record.size() == 1 && record.get(0).isBlank());
+            return record;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return the next record's fields, or null at end of input
+     * @throws IOException on a read error or a quoted field left open
+     */
+    public List<String> readRecord() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean inQuotes = false;
+        int startLine = line;
+        int c = read();
+        if (c < 0) return null;
+
+        for (; c >= 0; c = read()) {
+            char ch = (char) c;
+            if (inQuotes) {
+                if (ch == '"') {
+                    if (peek() == '"') {
+                        read();
+                        field.append('"');
+                    } else {
+                        inQuotes = false;
+                    }
+                } else {
+                    if (ch == '\n') line++;
+                    field.append(ch);
+                }
+            } else if (ch == '"' && !quoted && field.isEmpty()) {
+                inQuotes = true;
+                quoted = true;
+            } else if (ch == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                quoted = false;
+            } else if (ch == '\n') {
+                line++;
+                break;
+            } else if (ch != '\r') {
+                field.append(ch);
+            }
+        }
+        if (inQuotes) throw new IOException("Unterminated quoted field in record starting at line " + startLine);
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private int read() throws IOException {
+        if (position == limit && !fill()) return -1;
+        return buffer[position++];
+    }
+
+    private int peek() throws IOException {
+        if (position == limit && !fill()) return -1;
+        return buffer[position];
+    }
+
+    private boolean fill() throws IOException {
+        limit = in.read(buffer, 0, buffer.length);
+        position = 0;
+        if (limit > 0) return true;
+        limit = 0;
+        return false;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
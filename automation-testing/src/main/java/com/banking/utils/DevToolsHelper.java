@@ -0,0 +1,79 @@
+package com.banking.utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.json.Json;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * DevTools Helper - Version-independent Chrome DevTools Protocol access
+ * Commands and events are sent as raw CDP method names with map payloads,
+ * so the framework is not tied to one selenium-devtools-vNNN module
+ */
+public class DevToolsHelper {
+
+    public static boolean isSupported(WebDriver driver) {
+        return CommandTracer.undecorate(driver) instanceof ChromiumDriver;
+    }
+
+    /**
+     * Open (or reuse) the DevTools session of a Chrome/Edge driver
+     */
+    public static DevTools session(WebDriver driver) {
+        if (!isSupported(driver)) {
+            throw new UnsupportedOperationException("DevTools requires Chrome or Edge, got: "
+                    + driver.getClass().getSimpleName());
+        }
+        DevTools devTools = ((ChromiumDriver) CommandTracer.undecorate(driver)).getDevTools();
+        devTools.createSessionIfThereIsNotOne();
+        return devTools;
+    }
+
+    /**
+     * Move an open DevTools session to the driver's current window, dropping
+     * the listeners bound to the previous target (after a browser context switch)
+     * @return true if a session was open and has been moved
+     */
+    public static boolean reattach(WebDriver driver) {
+        if (!isSupported(driver)) return false;
+        ChromiumDriver chromium = (ChromiumDriver) CommandTracer.undecorate(driver);
+        DevTools devTools = chromium.maybeGetDevTools().orElse(null);
+        if (devTools == null || devTools.getCdpSession() == null) return false;
+        devTools.clearListeners();
+        devTools.disconnectSession();
+        devTools.createSession(chromium.getWindowHandle());
+        return true;
+    }
+
+    public static void send(DevTools devTools, String method, Map<String, Object> params) {
+        devTools.send(new Command<>(method, params));
+    }
+
+    @SuppressWarnings("unchecked")
+    public static void listen(DevTools devTools, String event, Consumer<Map<String, Object>> listener) {
+        devTools.addListener(new Event<Map<String, Object>>(event,
+                input -> (Map<String, Object>) input.read(Json.MAP_TYPE)), listener);
+    }
+
+    // ========== Payload Accessors ==========
+
+    public static String string(Map<String, Object> params, String key) {
+        Object value = params.get(key);
+        return value != null ? value.toString() : null;
+    }
+
+    public static long number(Map<String, Object> params, String key) {
+        Object value = params.get(key);
+        return value instanceof Number ? ((Number) value).longValue() : 0;
+    }
+
+    public static double decimal(Map<String, Object> params, String key) {
+        Object value = params.get(key);
+        return value instanceof Number ? ((Number) value).doubleValue() : 0;
+    }
+}
@@ -0,0 +1,233 @@
+package com.banking.utils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Device Farm - Leases mobile devices to parallel scenario threads
+ * Devices come from device.farm.file (CSV: name,platform,platformVersion,udid,serverUrl)
+ * when device.farm.enabled=true, otherwise from the single appium.* / ios.*
+ * device in config.properties. Each device gets its own systemPort,
+ * wdaLocalPort and mjpegServerPort, and is health-checked against its Appium
+ * server's /status before it is handed out; a device whose server fails the
+ * check is left out of the rotation (and taken back from a thread holding it)
+ * until a later check passes
+ */
+public class DeviceFarm {
+    private static volatile List<MobileDevice> devices = loadDevices();
+    private static final Set<MobileDevice> leased = ConcurrentHashMap.newKeySet();
+    private static final Map<String, HealthCheck> health = new ConcurrentHashMap<>();
+    private static final ThreadLocal<MobileDevice> current = new ThreadLocal<>();
+    private static final HttpClient http = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(ConfigReader.getInt("device.farm.health.timeout.ms", 2000)))
+            .build();
+
+    static {
+        RunMetrics.registerGauge("device.farm.size", () -> String.valueOf(devices.size()));
+    }
+
+    public static boolean isEnabled() {
+        return ConfigReader.getBoolean("device.farm.enabled", false);
+    }
+
+    public static List<MobileDevice> getDevices() {
+        return devices;
+    }
+
+    /**
+     * How many scenarios can hold a device at once: every farm device, or one
+     * without a farm (the single configured emulator/simulator)
+     */
+    public static int parallelism() {
+        return isEnabled() ? Math.max(1, devices.size()) : 1;
+    }
+
+    /**
+     * Re-read the device list and forget all leases and health results, e.g.
+     * after device.farm.* settings changed; threads must lease again
+     */
+    static synchronized void reload() {
+        devices = loadDevices();
+        leased.clear();
+        health.clear();
+    }
+
+    /**
+     * Lease a free, healthy device of this platform to the calling thread,
+     * waiting up to device.farm.lease.timeout seconds for one to be released.
+     * A thread that already holds a healthy device of this platform keeps it;
+     * one whose device went unhealthy gets it evicted and another leased
+     */
+    public static MobileDevice lease(String platform) {
+        MobileDevice held = current.get();
+        if (held != null && held.platform().equalsIgnoreCase(platform)) {
+            if (isHealthy(held)) return held;
+            RunMetrics.increment("device.evicted." + held.name());
+        }
+        if (held != null) release();
+
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.SECONDS.toNanos(ConfigReader.getInt("device.farm.lease.timeout", 300));
+        try {
+            while (true) {
+                boolean anyHealthy = false;
+                for (MobileDevice device : devices) {
+                    if (!device.platform().equalsIgnoreCase(platform) || !isHealthy(device)) continue;
+                    anyHealthy = true;
+                    if (leased.add(device)) {
+                        current.set(device);
+                        RunMetrics.increment("device.leased." + device.name());
+                        return device;
+                    }
+                }
+                if (!anyHealthy) {
+                    throw new RuntimeException("No healthy " + platform + " device in the farm");
+                }
+                if (System.nanoTime() >= deadline) {
+                    throw new RuntimeException("Timed out waiting for a free " + platform + " device");
+                }
+                Thread.sleep(200);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while leasing a " + platform + " device");
+        } finally {
+            RunMetrics.recordNanos("device.lease.wait", System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * @return device held by the calling thread, or null
+     */
+    public static MobileDevice current() {
+        return current.get();
+    }
+
+    public static void release() {
+        MobileDevice device = current.get();
+        if (device != null) {
+            leased.remove(device);
+            current.remove();
+        }
+    }
+
+    // ========== Health ==========
+
+    /**
+     * GET {serverUrl}/status, cached per server for device.farm.health.ttl.ms
+     */
+    static boolean isHealthy(MobileDevice device) {
+        long ttl = TimeUnit.MILLISECONDS.toNanos(ConfigReader.getInt("device.farm.health.ttl.ms", 30000));
+        HealthCheck cached = health.get(device.serverUrl());
+        if (cached != null && System.nanoTime() - cached.checkedAt < ttl) return cached.healthy;
+
+        boolean healthy;
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(stripSlash(device.serverUrl()) + "/status"))
+                    .timeout(Duration.ofMillis(ConfigReader.getInt("device.farm.health.timeout.ms", 2000)))
+                    .GET().build();
+            HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+            healthy = response.statusCode() == 200 && !response.body().replace(" ", "").contains("\"ready\":false");
+        } catch (IOException e) {
+            healthy = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            healthy = false;
+        }
+        if (!healthy) {
+            System.err.println("Appium server " + device.serverUrl() + " failed health check");
+            RunMetrics.increment("device.health.failed");
+        }
+        health.put(device.serverUrl(), new HealthCheck(healthy, System.nanoTime()));
+        return healthy;
+    }
+
+    private record HealthCheck(boolean healthy, long checkedAt) {
+    }
+
+    // ========== Descriptors ==========
+
+    private static List<MobileDevice> loadDevices() {
+        List<String[]> rows = new ArrayList<>();
+        if (isEnabled()) {
+            String file = ConfigReader.get("device.farm.file", "src/test/resources/testdata/devices.csv");
+            try (BufferedReader reader = Files.newBufferedReader(Paths.get(file))) {
+                String line = reader.readLine(); // header
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank() || line.startsWith("#")) continue;
+                    rows.add(line.split(",", -1));
+                }
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to read device farm file " + file + ": " + e.getMessage());
+            }
+        } else {
+            String server = ConfigReader.get("appium.server.url", "http://127.0.0.1:4723");
+            rows.add(new String[]{ConfigReader.get("appium.device.name", "emulator-5554"), "android", "", "", server});
+            rows.add(new String[]{ConfigReader.get("ios.device.name", "iPhone 15"), "ios",
+                    ConfigReader.get("ios.platform.version", "17.0"), "", server});
+        }
+
+        Set<Integer> reserved = new HashSet<>();
+        int systemPort = ConfigReader.getInt("device.farm.system.port.base", 8200);
+        int wdaPort = ConfigReader.getInt("device.farm.wda.port.base", 8100);
+        int mjpegPort = ConfigReader.getInt("device.farm.mjpeg.port.base", 9100);
+        List<MobileDevice> loaded = new ArrayList<>();
+        for (String[] row : rows) {
+            if (row.length < 5) throw new IllegalArgumentException("Bad device descriptor: " + String.join(",", row));
+            String server = row[4].trim();
+            systemPort = nextFreePort(systemPort, server, reserved);
+            wdaPort = nextFreePort(wdaPort, server, reserved);
+            mjpegPort = nextFreePort(mjpegPort, server, reserved);
+            loaded.add(new MobileDevice(row[0].trim(), row[1].trim().toLowerCase(), blankToNull(row[2]),
+                    blankToNull(row[3]), server, systemPort, wdaPort, mjpegPort));
+        }
+        return List.copyOf(loaded);
+    }
+
+    /**
+     * First port from candidate not reserved by another device (and, for an
+     * Appium server on this machine, not already bound locally)
+     */
+    private static int nextFreePort(int candidate, String serverUrl, Set<Integer> reserved) {
+        boolean local = serverUrl.contains("://127.0.0.1") || serverUrl.contains("://localhost");
+        while (reserved.contains(candidate) || (local && !isBindable(candidate))) {
+            candidate++;
+        }
+        reserved.add(candidate);
+        return candidate;
+    }
+
+    private static boolean isBindable(int port) {
+        try (ServerSocket socket = new ServerSocket()) {
+            socket.setReuseAddress(true);
+            socket.bind(new InetSocketAddress("127.0.0.1", port));
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private static String stripSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+}
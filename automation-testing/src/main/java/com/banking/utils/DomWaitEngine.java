@@ -0,0 +1,120 @@
+package com.banking.utils;
+
+import io.appium.java_client.AppiumDriver;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * DOM Wait Engine - Event-driven waits resolved inside the page
+ * One executeAsyncScript call installs a MutationObserver and re-checks the
+ * condition on the next animation frame after each DOM change, so a wait
+ * costs one WebDriver round trip and resolves within milliseconds of the change.
+ * Used by WaitHelper when wait.engine=observer
+ */
+public class DomWaitEngine {
+    public static final String PRESENT = "present";
+    public static final String VISIBLE = "visible";
+    public static final String CLICKABLE = "clickable";
+    public static final String TEXT = "text";
+
+    private static final Set<String> SUPPORTED_STRATEGIES =
+            Set.of("css selector", "xpath", "link text", "partial link text", "tag name");
+
+    private static final String WAIT_SCRIPT =
+            "var using = arguments[0], value = arguments[1], condition = arguments[2],"
+            + "    text = arguments[3], timeout = arguments[4], done = arguments[arguments.length - 1];"
+            + "function find() {"
+            + "  if (using === 'css selector') return document.querySelector(value);"
+            + "  if (using === 'xpath') return document.evaluate(value, document, null,"
+            + "      XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;"
+            + "  if (using === 'tag name') return document.getElementsByTagName(value)[0] || null;"
+            + "  var links = document.getElementsByTagName('a');"
+            + "  for (var i = 0; i < links.length; i++) {"
+            + "    var t = (links[i].innerText || '').trim();"
+            + "    if (using === 'link text' ? t === value : t.indexOf(value) >= 0) return links[i];"
+            + "  }"
+            + "  return null;"
+            + "}"
+            + "function visible(el) {"
+            + "  var style = window.getComputedStyle(el);"
+            + "  if (style.display === 'none' || style.visibility === 'hidden' || style.opacity === '0') return false;"
+            + "  var rect = el.getBoundingClientRect();"
+            + "  return rect.width > 0 && rect.height > 0;"
+            + "}"
+            + "function check() {"
+            + "  var el = find();"
+            + "  if (!el) return null;"
+            + "  if (condition === 'visible') return visible(el) ? el : null;"
+            + "  if (condition === 'clickable') return visible(el) && !el.disabled ? el : null;"
+            + "  if (condition === 'text') return (el.innerText || el.textContent || '').indexOf(text) >= 0 ? el : null;"
+            + "  return el;"
+            + "}"
+            + "var hit = check();"
+            + "if (hit) { done(hit); return; }"
+            + "var finished = false, scheduled = false, observer, poll, timer;"
+            + "function finish(result) {"
+            + "  if (finished) return;"
+            + "  finished = true; observer.disconnect(); clearInterval(poll); clearTimeout(timer); done(result);"
+            + "}"
+            + "function recheck() { var el = check(); if (el) finish(el); }"
+            + "function schedule() {"
+            + "  if (scheduled || finished) return;"
+            + "  scheduled = true;"
+            + "  window.requestAnimationFrame(function() { scheduled = false; recheck(); });"
+            + "}"
+            + "observer = new MutationObserver(schedule);"
+            + "observer.observe(document, {childList: true, subtree: true, attributes: true, characterData: true});"
+            // Safety net for style-only changes and throttled animation frames
+            + "poll = setInterval(recheck, 250);"
+            + "timer = setTimeout(function() { finish(null); }, timeout);";
+
+    /**
+     * @return true if this driver/locator pair can be waited on in-page
+     * (browser sessions only, standard W3C locator strategies only)
+     */
+    public static boolean supports(WebDriver driver, By locator) {
+        if (!(driver instanceof JavascriptExecutor) || driver instanceof AppiumDriver) return false;
+        if (!(locator instanceof By.Remotable)) return false;
+        return SUPPORTED_STRATEGIES.contains(((By.Remotable) locator).getRemoteParameters().using());
+    }
+
+    /**
+     * Wait in-page for the condition
+     * @return the matching element, or null if the script could not run to
+     * completion (e.g. the page navigated away) and the caller should poll for
+     * what is left of its timeout instead
+     * @throws TimeoutException if the condition was not met within the timeout
+     */
+    public static WebElement await(WebDriver driver, By locator, String condition,
+                                   String text, Duration timeout) {
+        By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+        long start = System.nanoTime();
+        try {
+            Object result = ((JavascriptExecutor) driver).executeAsyncScript(WAIT_SCRIPT,
+                    parameters.using(), parameters.value(), condition,
+                    text != null ? text : "", timeout.toMillis());
+            if (result instanceof WebElement) {
+                RunMetrics.increment("wait.observer.resolved");
+                return (WebElement) result;
+            }
+            RunMetrics.increment("wait.observer.timeout");
+            throw new TimeoutException("Expected condition failed: waiting for " + condition
+                    + " of " + locator + " (observer, tried for " + timeout.toSeconds() + " second(s))");
+        } catch (TimeoutException e) {
+            throw e;
+        } catch (WebDriverException e) {
+            // Navigation, script timeout or CSP: let the polling wait take over
+            RunMetrics.increment("wait.observer.fallback");
+            return null;
+        } finally {
+            RunMetrics.recordNanos("wait.observer", System.nanoTime() - start);
+        }
+    }
+}
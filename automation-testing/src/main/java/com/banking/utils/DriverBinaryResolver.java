@@ -0,0 +1,181 @@
+package com.banking.utils;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32C;
+
+/**
+ * Driver Binary Resolver - Resolves browser driver binaries once per process
+ * Resolved driver paths and the detected browser version are cached on disk
+ * keyed by a checksum of the browser binary, so later runs skip WebDriverManager
+ * version detection and network lookups until the installed browser changes
+ */
+public class DriverBinaryResolver {
+    private static final Map<String, String> resolved = new ConcurrentHashMap<>();
+    private static final String DEFAULT_CACHE_FILE = System.getProperty("user.home")
+            + "/.cache/banking-automation/driver-binaries.properties";
+
+    /**
+     * Make sure the driver binary for this browser is resolved and exported
+     * (webdriver.*.driver system property); only the first call does any work
+     */
+    public static String resolve(String browser) {
+        return resolved.computeIfAbsent(browser.toLowerCase(), DriverBinaryResolver::resolveOnce);
+    }
+
+    /**
+     * Locate the installed browser binary (browser.binary.path overrides detection)
+     */
+    public static Optional<Path> browserPath(String browser) {
+        String configured = ConfigReader.get("browser.binary.path");
+        if (configured != null && !configured.isEmpty()) {
+            return Optional.of(Paths.get(configured));
+        }
+        return managerFor(browser.toLowerCase()).getBrowserPath();
+    }
+
+    private static String resolveOnce(String browser) {
+        long start = System.nanoTime();
+        try {
+            WebDriverManager manager = managerFor(browser);
+            String key = browserKey(browser, manager.getBrowserPath());
+
+            if (key != null) {
+                Properties cache = readCache();
+                String driverPath = cache.getProperty(key + ".driver.path");
+                if (driverPath != null && Files.isExecutable(Paths.get(driverPath))) {
+                    System.setProperty(driverProperty(browser), driverPath);
+                    RunMetrics.increment("driver.resolve.cache.hit");
+                    return driverPath;
+                }
+                // Driver gone but browser unchanged: skip running the browser to detect its version
+                String browserVersion = cache.getProperty(key + ".browser.version");
+                if (browserVersion != null) manager.browserVersion(browserVersion);
+            }
+
+            manager.setup();
+            String driverPath = manager.getDownloadedDriverPath();
+            RunMetrics.increment("driver.resolve.cache.miss");
+            if (key != null && driverPath != null) {
+                Properties entry = new Properties();
+                entry.setProperty(key + ".driver.path", driverPath);
+                entry.setProperty(key + ".driver.version", String.valueOf(manager.getDownloadedDriverVersion()));
+                String browserVersion = detectedBrowserVersion(manager);
+                if (browserVersion != null) entry.setProperty(key + ".browser.version", browserVersion);
+                writeCache(entry);
+            }
+            return driverPath;
+        } finally {
+            RunMetrics.recordNanos("driver.resolve", System.nanoTime() - start);
+        }
+    }
+
+    private static WebDriverManager managerFor(String browser) {
+        switch (browser) {
+            case "chrome":
+                return WebDriverManager.chromedriver();
+            case "firefox":
+                return WebDriverManager.firefoxdriver();
+            case "edge":
+                return WebDriverManager.edgedriver();
+            default:
+                throw new RuntimeException("Unsupported browser: " + browser);
+        }
+    }
+
+    /**
+     * Browser version WebDriverManager detected (or was given) during setup;
+     * it has no public getter, so it is read from its protected field
+     * @return the version, or null if it cannot be read
+     */
+    private static String detectedBrowserVersion(WebDriverManager manager) {
+        try {
+            Field field = WebDriverManager.class.getDeclaredField("resolvedBrowserVersion");
+            field.setAccessible(true);
+            Object version = field.get(manager);
+            return version != null && !version.toString().isEmpty() ? version.toString() : null;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static String driverProperty(String browser) {
+        switch (browser) {
+            case "firefox":
+                return "webdriver.gecko.driver";
+            case "edge":
+                return "webdriver.edge.driver";
+            default:
+                return "webdriver.chrome.driver";
+        }
+    }
+
+    /**
+     * Cache key: CRC32C of the browser binary plus its modification time
+     * (launcher scripts such as /usr/bin/google-chrome rarely change content,
+     * but are rewritten on every package upgrade)
+     */
+    private static String browserKey(String browser, Optional<Path> browserPath) {
+        if (browserPath.isEmpty()) return null;
+        try {
+            Path binary = browserPath.get().toRealPath();
+            CRC32C crc = new CRC32C();
+            byte[] buffer = new byte[1 << 20];
+            try (InputStream in = Files.newInputStream(binary)) {
+                int read;
+                while ((read = in.read(buffer)) > 0) {
+                    crc.update(buffer, 0, read);
+                }
+            }
+            return browser + "." + Long.toHexString(crc.getValue())
+                    + "-" + Files.getLastModifiedTime(binary).toMillis();
+        } catch (IOException e) {
+            System.err.println("Cannot checksum " + browser + " binary: " + e.getMessage());
+            return null;
+        }
+    }
+
+    // ========== Disk Cache ==========
+
+    private static Path cacheFile() {
+        return Paths.get(ConfigReader.get("driver.cache.file", DEFAULT_CACHE_FILE));
+    }
+
+    private static synchronized Properties readCache() {
+        Properties cache = new Properties();
+        Path file = cacheFile();
+        if (Files.exists(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                cache.load(in);
+            } catch (IOException e) {
+                System.err.println("Ignoring unreadable driver cache " + file + ": " + e.getMessage());
+            }
+        }
+        return cache;
+    }
+
+    private static synchronized void writeCache(Properties entry) {
+        Properties cache = readCache();
+        cache.putAll(entry);
+        Path file = cacheFile();
+        try {
+            Files.createDirectories(file.getParent());
+            try (OutputStream out = Files.newOutputStream(file)) {
+                cache.store(out, "Resolved browser driver binaries");
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to write driver cache " + file + ": " + e.getMessage());
+        }
+    }
+}
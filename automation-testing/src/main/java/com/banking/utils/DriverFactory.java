@@ -1,6 +1,5 @@
 package com.banking.utils;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
@@ -8,6 +7,7 @@ import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
 import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.edge.EdgeOptions;
+import io.appium.java_client.AppiumDriver;
 import io.appium.java_client.android.AndroidDriver;
 import io.appium.java_client.ios.IOSDriver;
 import io.appium.java_client.android.options.UiAutomator2Options;
@@ -15,29 +15,72 @@ import io.appium.java_client.ios.options.XCUITestOptions;
 import org.openqa.selenium.remote.DesiredCapabilities;
 
 import java.net.URL;
-import java.time.Duration;
+import java.util.function.Supplier;
 
 /**
  * Driver Factory - Creates WebDriver and Appium Driver instances
  * Thread-safe with ThreadLocal for parallel execution
+ * Browser sessions come from DriverSessionPool when driver.pool.enabled=true;
+ * with browser.context.mode=true Chrome/Edge sessions share one browser process;
+ * Appium sessions are reused across scenarios via MobileSessionPool when
+ * mobile.pool.enabled=true. Browser drivers are wrapped by CommandTracer
+ * when command.trace.enabled=true and record traffic via NetworkRecorder
+ * when network.capture.enabled=true
  */
 public class DriverFactory {
     private static ThreadLocal<WebDriver> driver = new ThreadLocal<>();
+    private static ThreadLocal<DriverSessionPool> leasedFrom = new ThreadLocal<>();
+    private static ThreadLocal<MobileSessionPool> mobileLeasedFrom = new ThreadLocal<>();
+    private static ThreadLocal<String> mobileAppId = new ThreadLocal<>();
 
     public static WebDriver getDriver() {
         return driver.get();
     }
 
+    /**
+     * @return true when this thread holds a driver whose browser is running
+     * (a lazy driver that was never touched does not count)
+     */
+    public static boolean isDriverStarted() {
+        return driver.get() != null && LazyDriver.isStarted(driver.get());
+    }
+
     /**
      * Initialize browser-based WebDriver
+     * With driver.lazy.init=true the browser starts on the first driver call
      */
     public static void initDriver(String browser) {
+        if (ConfigReader.getBoolean("driver.lazy.init", false)) {
+            driver.set(LazyDriver.create(() -> startDriver(browser)));
+        } else {
+            driver.set(startDriver(browser));
+        }
+    }
+
+    private static WebDriver startDriver(String browser) {
+        if (ConfigReader.getBoolean("driver.pool.enabled", false)) {
+            DriverSessionPool pool = DriverSessionPool.forBrowser(browser);
+            WebDriver pooled = pool.lease();
+            leasedFrom.set(pool);
+            return pooled;
+        }
+        return createDriver(browser);
+    }
+
+    /**
+     * Start a new browser session (used directly and by DriverSessionPool)
+     */
+    static WebDriver createDriver(String browser) {
         WebDriver webDriver;
         boolean headless = ConfigReader.isHeadless();
 
         switch (browser.toLowerCase()) {
             case "chrome":
-                WebDriverManager.chromedriver().setup();
+                DriverBinaryResolver.resolve("chrome");
+                if (SharedBrowserHost.isEnabled()) {
+                    webDriver = SharedBrowserHost.forBrowser("chrome").openContext();
+                    break;
+                }
                 ChromeOptions chromeOptions = new ChromeOptions();
                 chromeOptions.addArguments("--start-maximized");
                 chromeOptions.addArguments("--disable-notifications");
@@ -52,7 +95,7 @@ public class DriverFactory {
                 break;
 
             case "firefox":
-                WebDriverManager.firefoxdriver().setup();
+                DriverBinaryResolver.resolve("firefox");
                 FirefoxOptions ffOptions = new FirefoxOptions();
                 if (headless) {
                     ffOptions.addArguments("--headless");
@@ -63,7 +106,11 @@ public class DriverFactory {
                 break;
 
             case "edge":
-                WebDriverManager.edgedriver().setup();
+                DriverBinaryResolver.resolve("edge");
+                if (SharedBrowserHost.isEnabled()) {
+                    webDriver = SharedBrowserHost.forBrowser("edge").openContext();
+                    break;
+                }
                 EdgeOptions edgeOptions = new EdgeOptions();
                 edgeOptions.addArguments("--start-maximized");
                 if (headless) {
@@ -76,27 +123,42 @@ public class DriverFactory {
                 throw new RuntimeException("Unsupported browser: " + browser);
         }
 
-        int implicitWait = ConfigReader.getInt("implicit.wait", 10);
-        int pageLoad = ConfigReader.getInt("page.load.timeout", 30);
-        webDriver.manage().timeouts().implicitlyWait(Duration.ofSeconds(implicitWait));
-        webDriver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(pageLoad));
+        WaitPolicy.applyTo(webDriver);
 
         if (!headless) {
             webDriver.manage().window().maximize();
         }
 
-        driver.set(webDriver);
+        if (FastMode.isEnabled()) {
+            FastMode.apply(webDriver);
+        }
+        if (NetworkRecorder.isEnabled()) {
+            NetworkRecorder.apply(webDriver);
+        }
+        if (CommandTracer.isEnabled()) {
+            webDriver = CommandTracer.decorate(webDriver);
+        }
+
+        return webDriver;
     }
 
     /**
      * Initialize Appium Android Driver
      */
     public static void initAndroidDriver() {
+        // The @android hook and the launch step both initialise the driver
+        if (driver.get() instanceof AndroidDriver) return;
+        if (driver.get() != null) quitDriver();
         try {
+            MobileDevice device = DeviceFarm.lease("android");
             UiAutomator2Options options = new UiAutomator2Options();
-            options.setDeviceName(ConfigReader.get("appium.device.name", "emulator-5554"));
+            options.setDeviceName(device.name());
             options.setPlatformName("Android");
             options.setAutomationName("UiAutomator2");
+            if (device.udid() != null) options.setUdid(device.udid());
+            if (device.platformVersion() != null) options.setPlatformVersion(device.platformVersion());
+            options.setSystemPort(device.systemPort());
+            options.setMjpegServerPort(device.mjpegPort());
 
             String appPath = ConfigReader.get("appium.app.path");
             if (appPath != null && !appPath.isEmpty()) {
@@ -106,11 +168,19 @@ public class DriverFactory {
                 options.setAppActivity(ConfigReader.get("appium.app.activity"));
             }
 
-            String appiumUrl = ConfigReader.get("appium.server.url", "http://127.0.0.1:4723");
-            AndroidDriver androidDriver = new AndroidDriver(new URL(appiumUrl), options);
-            androidDriver.manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
+            String appiumUrl = device.serverUrl();
+            URL serverUrl = new URL(appiumUrl);
+            if (ConfigReader.getBoolean("mobile.pool.enabled", false)) {
+                leaseMobileDriver(MobileSessionPool.forDevice("android", device.name(), appiumUrl),
+                        () -> new AndroidDriver(serverUrl, options),
+                        ConfigReader.get("appium.app.package"), appPath);
+                return;
+            }
+            AndroidDriver androidDriver = new AndroidDriver(serverUrl, options);
+            WaitPolicy.applyTo(androidDriver);
             driver.set(androidDriver);
         } catch (Exception e) {
+            DeviceFarm.release();
             throw new RuntimeException("Failed to initialize Android Driver: " + e.getMessage());
         }
     }
@@ -119,33 +189,88 @@ public class DriverFactory {
      * Initialize Appium iOS Driver
      */
     public static void initIOSDriver() {
+        if (driver.get() instanceof IOSDriver) return;
+        if (driver.get() != null) quitDriver();
         try {
+            MobileDevice device = DeviceFarm.lease("ios");
             XCUITestOptions options = new XCUITestOptions();
-            options.setDeviceName(ConfigReader.get("ios.device.name", "iPhone 15"));
-            options.setPlatformVersion(ConfigReader.get("ios.platform.version", "17.0"));
+            options.setDeviceName(device.name());
+            options.setPlatformVersion(device.platformVersion() != null
+                    ? device.platformVersion() : ConfigReader.get("ios.platform.version", "17.0"));
             options.setAutomationName("XCUITest");
+            if (device.udid() != null) options.setUdid(device.udid());
+            options.setWdaLocalPort(device.wdaLocalPort());
+            options.setMjpegServerPort(device.mjpegPort());
 
             String appPath = ConfigReader.get("ios.app.path");
             if (appPath != null && !appPath.isEmpty()) {
                 options.setApp(appPath);
             }
 
-            String appiumUrl = ConfigReader.get("appium.server.url", "http://127.0.0.1:4723");
-            IOSDriver iosDriver = new IOSDriver(new URL(appiumUrl), options);
-            iosDriver.manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
+            String appiumUrl = device.serverUrl();
+            URL serverUrl = new URL(appiumUrl);
+            if (ConfigReader.getBoolean("mobile.pool.enabled", false)) {
+                leaseMobileDriver(MobileSessionPool.forDevice("ios", device.name(), appiumUrl),
+                        () -> new IOSDriver(serverUrl, options),
+                        ConfigReader.get("ios.bundle.id", "com.banking.app"), appPath);
+                return;
+            }
+            IOSDriver iosDriver = new IOSDriver(serverUrl, options);
+            WaitPolicy.applyTo(iosDriver);
             driver.set(iosDriver);
         } catch (Exception e) {
+            DeviceFarm.release();
             throw new RuntimeException("Failed to initialize iOS Driver: " + e.getMessage());
         }
     }
 
     /**
-     * Quit driver and cleanup
+     * Lease a pooled Appium session on the thread's DeviceFarm device
+     */
+    private static void leaseMobileDriver(MobileSessionPool pool, Supplier<AppiumDriver> starter,
+                                          String appId, String appPath) {
+        AppiumDriver session = pool.lease(() -> {
+            AppiumDriver started = starter.get();
+            WaitPolicy.applyTo(started);
+            return started;
+        }, appId, appPath);
+        driver.set(session);
+        mobileLeasedFrom.set(pool);
+        mobileAppId.set(appId);
+    }
+
+    /**
+     * Quit driver and cleanup (pooled sessions are returned to their pool,
+     * the mobile device back to DeviceFarm)
      */
     public static void quitDriver() {
+        MobileSessionPool mobilePool = mobileLeasedFrom.get();
+        if (mobilePool != null && driver.get() != null) {
+            mobilePool.release((AppiumDriver) driver.get(), mobileAppId.get());
+            mobileLeasedFrom.remove();
+            mobileAppId.remove();
+            driver.remove();
+            DeviceFarm.release();
+            return;
+        }
         if (driver.get() != null) {
-            driver.get().quit();
+            WebDriver started = LazyDriver.unwrap(driver.get());
+            DriverSessionPool pool = leasedFrom.get();
+            if (started != null) {
+                if (SharedBrowserHost.isEnabled()) {
+                    SharedBrowserHost.recordScenarioCompleted();
+                }
+                if (pool != null) {
+                    pool.release(started);
+                } else {
+                    started.quit();
+                }
+            } else {
+                RunMetrics.increment("driver.lazy.skipped");
+            }
+            leasedFrom.remove();
             driver.remove();
         }
+        DeviceFarm.release();
     }
 }
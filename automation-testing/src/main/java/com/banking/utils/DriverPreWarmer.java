@@ -0,0 +1,48 @@
+package com.banking.utils;
+
+import io.cucumber.testng.PickleWrapper;
+
+import java.util.List;
+
+/**
+ * Driver Pre-Warmer - Starts pooled browser sessions ahead of scenario demand
+ * Called by the web runners once the scenario list is known, so browser
+ * startup overlaps with Gherkin parsing instead of blocking the first step
+ */
+public class DriverPreWarmer {
+
+    /**
+     * Pre-warm min(web scenarios scheduled, thread.count) sessions for the
+     * configured browser. No-op unless the session pool is enabled.
+     */
+    public static void warm(Object[][] scenarios) {
+        if (!ConfigReader.getBoolean("driver.pool.enabled", false)
+                || !ConfigReader.getBoolean("pool.prewarm", true)) {
+            return;
+        }
+        int webScenarios = countWebScenarios(scenarios);
+        int target = Math.min(webScenarios, ConfigReader.getInt("thread.count", 3));
+        if (target <= 0) return;
+
+        String browser = System.getProperty("browser", ConfigReader.getBrowser());
+        int scheduled = DriverSessionPool.forBrowser(browser).prestart(target);
+        System.out.println("Pre-warming " + scheduled + " " + browser + " session(s) for "
+                + webScenarios + " web scenario(s)");
+    }
+
+    /**
+     * Count scenarios that Hooks.setupBrowser will open a browser for
+     * (@banking and not @api and not @mobile)
+     */
+    static int countWebScenarios(Object[][] scenarios) {
+        int count = 0;
+        for (Object[] scenario : scenarios) {
+            if (scenario.length == 0 || !(scenario[0] instanceof PickleWrapper)) continue;
+            List<String> tags = ((PickleWrapper) scenario[0]).getPickle().getTags();
+            if (tags.contains("@banking") && !tags.contains("@api") && !tags.contains("@mobile")) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,264 @@
+package com.banking.utils;
+
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Driver Session Pool - Bounded pool of pre-started browser sessions per browser
+ * Sessions are leased to a scenario, reset when returned (cookies, storage,
+ * tabs, window size) and evicted after pool.max.uses leases or a failed health check.
+ * A session in a shared browser (browser.context.mode) is reset by swapping
+ * its browser context for a fresh one, never by pruning windows, since the
+ * other sessions' windows live in the same browser
+ */
+public class DriverSessionPool {
+    private static final Map<String, DriverSessionPool> pools = new ConcurrentHashMap<>();
+
+    private final String browser;
+    private final Supplier<WebDriver> factory;
+    private final int maxUses;
+    private final long leaseTimeoutMillis;
+    private final Semaphore capacity;
+    private final LinkedBlockingDeque<PooledSession> idle = new LinkedBlockingDeque<>();
+    private final Map<WebDriver, PooledSession> leased = new ConcurrentHashMap<>();
+
+    static {
+        RunMetrics.registerGauge("pool.hit.rate", () -> {
+            long hits = RunMetrics.getCount("pool.hit");
+            long total = hits + RunMetrics.getCount("pool.miss");
+            return total > 0 ? String.format("%.1f%% (%d/%d)", hits * 100.0 / total, hits, total) : "n/a";
+        });
+        Runtime.getRuntime().addShutdownHook(new Thread(DriverSessionPool::shutdownAll));
+    }
+
+    private DriverSessionPool(String browser) {
+        this(browser, () -> DriverFactory.createDriver(browser));
+    }
+
+    /**
+     * Pool starting its sessions with factory instead of DriverFactory (tests)
+     */
+    DriverSessionPool(String browser, Supplier<WebDriver> factory) {
+        this.browser = browser;
+        this.factory = factory;
+        this.maxUses = ConfigReader.getInt("pool.max.uses", 20);
+        this.leaseTimeoutMillis = ConfigReader.getInt("pool.lease.timeout", 120) * 1000L;
+        this.capacity = new Semaphore(ConfigReader.getInt("pool.max.size",
+                ConfigReader.getInt("thread.count", 3)));
+    }
+
+    public static DriverSessionPool forBrowser(String browser) {
+        return pools.computeIfAbsent(browser.toLowerCase(), DriverSessionPool::new);
+    }
+
+    /**
+     * Lease a healthy session, starting a new one only when no idle session
+     * exists and the pool is below its size limit
+     */
+    public WebDriver lease() {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(leaseTimeoutMillis);
+        try {
+            while (System.nanoTime() < deadline) {
+                PooledSession session = idle.pollFirst();
+                if (session == null && capacity.tryAcquire()) {
+                    RunMetrics.increment("pool.miss");
+                    return checkOut(startSession());
+                }
+                if (session == null) {
+                    // Pool is full: wait for a release (or an eviction freeing capacity)
+                    session = idle.pollFirst(100, TimeUnit.MILLISECONDS);
+                    if (session == null) continue;
+                }
+                if (isHealthy(session)) {
+                    RunMetrics.increment("pool.hit");
+                    return checkOut(session);
+                }
+                evict(session, "health check failed");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while leasing " + browser + " session");
+        } finally {
+            RunMetrics.recordNanos("pool.lease.wait", System.nanoTime() - start);
+        }
+        throw new RuntimeException("Timed out after " + leaseTimeoutMillis
+                + "ms waiting for a " + browser + " session from the pool");
+    }
+
+    /**
+     * Start up to count sessions in the background on virtual threads so the
+     * first lease on each worker thread finds a warm session
+     * @return number of sessions actually scheduled (bounded by free capacity)
+     */
+    public int prestart(int count) {
+        int scheduled = 0;
+        for (int i = 0; i < count && capacity.tryAcquire(); i++) {
+            scheduled++;
+            Thread.ofVirtual().name("driver-warmer-" + browser + "-" + i).start(() -> {
+                long start = System.nanoTime();
+                try {
+                    idle.offerLast(startSession());
+                    RunMetrics.increment("pool.prewarmed");
+                    RunMetrics.recordNanos("pool.prewarm.startup", System.nanoTime() - start);
+                } catch (RuntimeException e) {
+                    System.err.println("Failed to pre-warm " + browser + " session: " + e.getMessage());
+                }
+            });
+        }
+        return scheduled;
+    }
+
+    /**
+     * Return a leased session; it is reset for the next scenario or evicted
+     */
+    public void release(WebDriver driver) {
+        PooledSession session = leased.remove(driver);
+        if (session == null) {
+            driver.quit();
+            return;
+        }
+        if (session.uses >= maxUses) {
+            evict(session, "reached " + maxUses + " uses");
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            reset(session);
+            idle.offerFirst(session);
+        } catch (Exception e) {
+            evict(session, "reset failed: " + e.getMessage());
+        } finally {
+            RunMetrics.recordNanos("pool.reset", System.nanoTime() - start);
+        }
+    }
+
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    public int getLeasedCount() {
+        return leased.size();
+    }
+
+    /**
+     * Quit every session, idle or still leased (a scenario running at JVM
+     * exit would otherwise leave its browser behind)
+     */
+    public static void shutdownAll() {
+        pools.values().forEach(DriverSessionPool::shutdown);
+    }
+
+    public void shutdown() {
+        PooledSession session;
+        while ((session = idle.pollFirst()) != null) {
+            quietQuit(session.driver);
+        }
+        for (WebDriver driver : List.copyOf(leased.keySet())) {
+            if (leased.remove(driver) != null) quietQuit(driver);
+        }
+    }
+
+    // ========== Internals ==========
+
+    private PooledSession startSession() {
+        WebDriver driver;
+        try {
+            driver = factory.get();
+        } catch (RuntimeException e) {
+            capacity.release();
+            throw e;
+        }
+        try {
+            return new PooledSession(driver);
+        } catch (RuntimeException e) {
+            quietQuit(driver);
+            capacity.release();
+            throw e;
+        }
+    }
+
+    private WebDriver checkOut(PooledSession session) {
+        session.uses++;
+        leased.put(session.driver, session);
+        return session.driver;
+    }
+
+    private boolean isHealthy(PooledSession session) {
+        try {
+            return session.driver.getWindowHandle() != null;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private void reset(PooledSession session) {
+        WebDriver driver = session.driver;
+        if (SharedBrowserHost.isContextSession(driver)) {
+            SharedBrowserHost.recycleContext(driver);
+            return;
+        }
+
+        // Own browser process: every window is this session's; keep the one it started with
+        Set<String> handles = driver.getWindowHandles();
+        if (!handles.contains(session.home)) session.home = handles.iterator().next();
+        for (String handle : handles) {
+            if (!handle.equals(session.home)) driver.switchTo().window(handle).close();
+        }
+        driver.switchTo().window(session.home);
+
+        ((JavascriptExecutor) driver).executeScript(
+                "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+        driver.manage().deleteAllCookies();
+        if (driver instanceof HasCdp) {
+            // deleteAllCookies only covers the current domain
+            ((HasCdp) driver).executeCdpCommand("Network.clearBrowserCookies", Map.of());
+        }
+        driver.get("about:blank");
+
+        if (ConfigReader.isHeadless()) {
+            driver.manage().window().setSize(new Dimension(1920, 1080));
+        } else {
+            driver.manage().window().maximize();
+        }
+    }
+
+    private void evict(PooledSession session, String reason) {
+        System.out.println("Evicting " + browser + " session after " + session.uses
+                + " uses: " + reason);
+        RunMetrics.increment("pool.evicted");
+        quietQuit(session.driver);
+        capacity.release();
+    }
+
+    private static void quietQuit(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            System.err.println("Failed to quit pooled session: " + e.getMessage());
+        }
+    }
+
+    private static class PooledSession {
+        private final WebDriver driver;
+        // Window the session started in (handle order from the driver is not defined)
+        private String home;
+        private int uses;
+
+        PooledSession(WebDriver driver) {
+            this.driver = driver;
+            this.home = driver.getWindowHandle();
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.banking.utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.DevTools;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fast Mode - Blocks resources the assertions never look at (Chrome/Edge only)
+ * Uses DevTools Network.setBlockedURLs for configured resource types and URL
+ * patterns, disables CSS animations/transitions, and keeps per-session counts
+ * of blocked and loaded requests for a per-scenario savings report
+ */
+public class FastMode {
+    private static final Map<String, List<String>> TYPE_PATTERNS = Map.of(
+            "image", List.of("*.png*", "*.jpg*", "*.jpeg*", "*.gif*", "*.webp*", "*.svg*", "*.ico*", "*.bmp*"),
+            "font", List.of("*.woff*", "*.woff2*", "*.ttf*", "*.otf*", "*.eot*"),
+            "media", List.of("*.mp4*", "*.webm*", "*.ogg*", "*.mp3*", "*.wav*", "*.m4a*"));
+
+    // Rough payload sizes used when a blocked type was never seen loading in this run
+    private static final Map<String, Long> DEFAULT_BYTES = Map.of(
+            "Image", 40_000L, "Font", 30_000L, "Media", 500_000L);
+
+    private static final String NO_ANIMATIONS_SCRIPT =
+            "(function() {"
+            + " var css = '*, *::before, *::after { transition: none !important;"
+            + " animation: none !important; scroll-behavior: auto !important; }';"
+            + " function inject() { var s = document.createElement('style'); s.textContent = css;"
+            + " (document.head || document.documentElement).appendChild(s); }"
+            + " if (document.documentElement) { inject(); }"
+            + " else { document.addEventListener('DOMContentLoaded', inject); }"
+            + "})();";
+
+    private static final Map<WebDriver, SessionStats> sessions =
+            Collections.synchronizedMap(new WeakHashMap<>());
+    // Run-wide average transfer size per resource type, used to estimate savings
+    private static final Map<String, long[]> observedBytes = new ConcurrentHashMap<>();
+
+    public static boolean isEnabled() {
+        return ConfigReader.getBoolean("fast.mode", false);
+    }
+
+    /**
+     * Install blocking rules and counters on a freshly created session
+     */
+    public static void apply(WebDriver driver) {
+        if (!DevToolsHelper.isSupported(driver)) {
+            System.out.println("fast.mode needs Chrome or Edge; ignored for "
+                    + driver.getClass().getSimpleName());
+            return;
+        }
+        DevTools devTools = DevToolsHelper.session(driver);
+        SessionStats stats = new SessionStats();
+
+        DevToolsHelper.listen(devTools, "Network.responseReceived", event ->
+                stats.pendingTypes.put(DevToolsHelper.string(event, "requestId"),
+                        DevToolsHelper.string(event, "type")));
+        DevToolsHelper.listen(devTools, "Network.loadingFinished", event -> {
+            String type = stats.pendingTypes.remove(DevToolsHelper.string(event, "requestId"));
+            stats.loaded(type, DevToolsHelper.number(event, "encodedDataLength"));
+        });
+        DevToolsHelper.listen(devTools, "Network.loadingFailed", event -> {
+            stats.pendingTypes.remove(DevToolsHelper.string(event, "requestId"));
+            if (event.get("blockedReason") != null) {
+                stats.blocked(DevToolsHelper.string(event, "type"));
+            }
+        });
+
+        DevToolsHelper.send(devTools, "Network.enable", Map.of());
+        DevToolsHelper.send(devTools, "Network.setBlockedURLs", Map.of("urls", blockedPatterns()));
+        if (ConfigReader.getBoolean("fast.mode.disable.animations", true)) {
+            DevToolsHelper.send(devTools, "Page.addScriptToEvaluateOnNewDocument",
+                    Map.of("source", NO_ANIMATIONS_SCRIPT));
+            DevToolsHelper.send(devTools, "Emulation.setEmulatedMedia", Map.of("features",
+                    List.of(Map.of("name", "prefers-reduced-motion", "value", "reduce"))));
+        }
+        sessions.put(driver, stats);
+    }
+
+    /**
+     * Report what fast mode saved since the previous call, then reset the
+     * counters (called once per scenario, so pooled sessions report per scenario)
+     * @return report text, or null if fast mode is not active on this driver
+     */
+    public static String takeReport(WebDriver driver) {
+        WebDriver real = LazyDriver.unwrap(driver);
+        if (real != null) real = CommandTracer.undecorate(real);
+        SessionStats stats = real != null ? sessions.get(real) : null;
+        if (stats == null) return null;
+
+        Map<String, Integer> blocked;
+        long loadedRequests;
+        long loadedBytes;
+        synchronized (stats) {
+            blocked = new TreeMap<>(stats.blockedByType);
+            loadedRequests = stats.loadedRequests;
+            loadedBytes = stats.loadedBytes;
+            stats.blockedByType.clear();
+            stats.loadedRequests = 0;
+            stats.loadedBytes = 0;
+        }
+
+        int blockedRequests = 0;
+        long savedBytes = 0;
+        List<String> parts = new ArrayList<>();
+        for (Map.Entry<String, Integer> entry : blocked.entrySet()) {
+            blockedRequests += entry.getValue();
+            savedBytes += entry.getValue() * estimatedBytes(entry.getKey());
+            parts.add(entry.getKey() + "=" + entry.getValue());
+        }
+        RunMetrics.add("fastmode.requests.blocked", blockedRequests);
+        RunMetrics.add("fastmode.bytes.saved.estimate", savedBytes);
+
+        return String.format("Fast mode: blocked %d request(s) %s, ~%d KB saved (est.); "
+                        + "loaded %d request(s), %d KB",
+                blockedRequests, parts, savedBytes / 1024, loadedRequests, loadedBytes / 1024);
+    }
+
+    // ========== Internals ==========
+
+    private static List<String> blockedPatterns() {
+        List<String> patterns = new ArrayList<>();
+        for (String type : ConfigReader.get("fast.mode.blocked.types", "image,font,media").split(",")) {
+            patterns.addAll(TYPE_PATTERNS.getOrDefault(type.trim().toLowerCase(), List.of()));
+        }
+        for (String url : ConfigReader.get("fast.mode.blocked.urls", "").split(",")) {
+            if (!url.isBlank()) patterns.add(url.trim());
+        }
+        return patterns;
+    }
+
+    private static long estimatedBytes(String type) {
+        long[] observed = observedBytes.get(type);
+        if (observed != null && observed[0] > 0) {
+            return observed[1] / observed[0];
+        }
+        return DEFAULT_BYTES.getOrDefault(type, 20_000L);
+    }
+
+    private static class SessionStats {
+        private final Map<String, String> pendingTypes = new ConcurrentHashMap<>();
+        private final Map<String, Integer> blockedByType = new TreeMap<>();
+        private long loadedRequests;
+        private long loadedBytes;
+
+        synchronized void blocked(String type) {
+            blockedByType.merge(type != null ? type : "Other", 1, Integer::sum);
+        }
+
+        synchronized void loaded(String type, long bytes) {
+            loadedRequests++;
+            loadedBytes += bytes;
+            if (type != null) {
+                long[] totals = observedBytes.computeIfAbsent(type, k -> new long[2]);
+                synchronized (totals) {
+                    totals[0]++;
+                    totals[1] += bytes;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.banking.utils;
+
+import io.appium.java_client.AppiumDriver;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.interactions.Actions;
+import org.openqa.selenium.interactions.PointerInput;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Gesture Batch - Composes taps, typing and swipes into one W3C Actions payload
+ * PIN entry plus submit is one performActions call instead of one command
+ * per gesture. Touch pointer on Appium, mouse on browsers. Typing appends to
+ * the field (clear it first), and XCUITest does not accept W3C key actions
+ * into native text fields, so on iOS enter text with clear + sendKeys and
+ * batch only pointer gestures
+ */
+public class GestureBatch {
+    private static final ThreadLocal<int[]> scenarioStats = ThreadLocal.withInitial(() -> new int[2]);
+
+    private final Actions actions;
+    private final Function<By, WebElement> resolver;
+    private final PointerInput pointer;
+    private int replacedCommands;
+
+    /**
+     * @param resolver how locators are turned into elements (usually a WaitHelper wait)
+     */
+    public GestureBatch(WebDriver driver, Function<By, WebElement> resolver) {
+        this.actions = new Actions(driver);
+        this.resolver = resolver;
+        if (driver instanceof AppiumDriver) {
+            actions.setActivePointer(PointerInput.Kind.TOUCH, "finger");
+        }
+        this.pointer = actions.getActivePointer();
+    }
+
+    public GestureBatch tap(By locator) {
+        return tap(resolver.apply(locator));
+    }
+
+    public GestureBatch tap(WebElement element) {
+        actions.click(element);
+        replacedCommands++;
+        return this;
+    }
+
+    /**
+     * Tap the field to focus it, then type into it
+     */
+    public GestureBatch type(By locator, CharSequence text) {
+        return type(resolver.apply(locator), text);
+    }
+
+    public GestureBatch type(WebElement element, CharSequence text) {
+        actions.sendKeys(element, text);
+        replacedCommands++;
+        return this;
+    }
+
+    /**
+     * Type into whatever element currently has focus
+     */
+    public GestureBatch type(CharSequence text) {
+        actions.sendKeys(text);
+        replacedCommands++;
+        return this;
+    }
+
+    /**
+     * Press at (fromX, fromY) viewport coordinates and drag to (toX, toY)
+     */
+    public GestureBatch swipe(int fromX, int fromY, int toX, int toY, Duration duration) {
+        actions.tick(pointer.createPointerMove(Duration.ZERO, PointerInput.Origin.viewport(), fromX, fromY))
+                .tick(pointer.createPointerDown(PointerInput.MouseButton.LEFT.asArg()))
+                .tick(pointer.createPointerMove(duration, PointerInput.Origin.viewport(), toX, toY))
+                .tick(pointer.createPointerUp(PointerInput.MouseButton.LEFT.asArg()));
+        replacedCommands++;
+        return this;
+    }
+
+    public GestureBatch pause(Duration duration) {
+        actions.pause(duration);
+        return this;
+    }
+
+    /**
+     * Send everything as one performActions call
+     */
+    public void perform() {
+        if (replacedCommands == 0) return;
+        actions.perform();
+        int saved = replacedCommands - 1;
+        RunMetrics.increment("actions.batches");
+        RunMetrics.add("actions.roundtrips.saved", saved);
+        int[] stats = scenarioStats.get();
+        stats[0]++;
+        stats[1] += saved;
+    }
+
+    // ========== Per-scenario reporting ==========
+
+    public static void startScenario() {
+        scenarioStats.remove();
+    }
+
+    /**
+     * @return one-line summary of batching in this scenario, or null if nothing was batched
+     */
+    public static String scenarioReport() {
+        int[] stats = scenarioStats.get();
+        scenarioStats.remove();
+        if (stats[0] == 0) return null;
+        return "Action batching: " + stats[0] + " batch(es), " + stats[1] + " round trip(s) saved";
+    }
+}
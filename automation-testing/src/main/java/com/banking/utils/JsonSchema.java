@@ -0,0 +1,319 @@
+package com.banking.utils;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * JSON Schema - A schema document compiled once into a tree of checks
+ * Keywords are read, patterns compiled and property lists flattened at
+ * compile time, so validate() only walks the value. Supports the draft-07
+ * keywords the API contracts use: type, enum, const, required, properties,
+ * additionalProperties, items, min/maxItems, minimum, maximum,
+ * exclusiveMinimum/Maximum, min/maxLength, pattern and $ref to another schema
+ * file (resolved on first use). Annotation keywords (title, description,
+ * format, ...) are ignored; any other keyword is rejected rather than
+ * silently not enforced
+ */
+public final class JsonSchema {
+    private static final int MAX_REPORTED = 10;
+    private static final Set<String> ANNOTATIONS = Set.of("$schema", "$id", "$comment", "title", "description",
+            "examples", "default", "format", "readOnly", "writeOnly");
+
+    private enum Type { NULL, BOOLEAN, INTEGER, NUMBER, STRING, ARRAY, OBJECT }
+
+    /**
+     * @param violations total violations (only the first few are described)
+     */
+    public record Result(long violations, List<String> messages) {
+        public boolean passed() {
+            return violations == 0;
+        }
+
+        public String summary() {
+            if (passed()) return "valid";
+            return violations + " violation(s): " + String.join("; ", messages)
+                    + (violations > messages.size() ? "; ..." : "");
+        }
+    }
+
+    /**
+     * Where a value sits in the document; only turned into text for a violation
+     */
+    private record Location(Location parent, String name, int index) {
+        static final Location ROOT = new Location(null, null, -1);
+
+        Location property(String property) {
+            return new Location(this, property, -1);
+        }
+
+        Location element(int element) {
+            return new Location(this, null, element);
+        }
+
+        @Override
+        public String toString() {
+            if (parent == null) return "$";
+            return parent + (name != null ? "." + name : "[" + index + "]");
+        }
+    }
+
+    private static final class Violations {
+        long count;
+        final List<String> messages = new ArrayList<>();
+
+        void add(Location at, String problem) {
+            if (count++ < MAX_REPORTED) messages.add(at + " " + problem);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Check {
+        void check(JsonElement value, Location at, Violations out);
+    }
+
+    private final Check[] checks;
+
+    private JsonSchema(Check[] checks) {
+        this.checks = checks;
+    }
+
+    /**
+     * @param refs resolves a $ref (another schema file's name) to its compiled
+     *             schema; called once per $ref, on first use
+     * @throws IllegalArgumentException on a keyword this compiler does not support
+     */
+    public static JsonSchema compile(JsonObject schema, Function<String, JsonSchema> refs) {
+        List<Check> checks = new ArrayList<>();
+        for (Map.Entry<String, JsonElement> entry : schema.entrySet()) {
+            String keyword = entry.getKey();
+            JsonElement argument = entry.getValue();
+            switch (keyword) {
+                case "type" -> checks.add(type(argument));
+                case "enum" -> checks.add(oneOf(argument.getAsJsonArray()));
+                case "const" -> checks.add(equalTo(argument));
+                case "required" -> checks.add(required(argument.getAsJsonArray()));
+                case "properties" -> checks.add(properties(argument.getAsJsonObject(), refs));
+                case "additionalProperties" -> checks.add(additionalProperties(schema, argument, refs));
+                case "items" -> checks.add(items(compile(argument.getAsJsonObject(), refs)));
+                case "minItems", "maxItems" -> checks.add(size(keyword, argument.getAsInt()));
+                case "minimum", "maximum", "exclusiveMinimum", "exclusiveMaximum" ->
+                        checks.add(bound(keyword, argument.getAsDouble()));
+                case "minLength", "maxLength" -> checks.add(length(keyword, argument.getAsInt()));
+                case "pattern" -> checks.add(pattern(Pattern.compile(argument.getAsString())));
+                case "$ref" -> checks.add(ref(argument.getAsString(), refs));
+                default -> {
+                    if (!ANNOTATIONS.contains(keyword)) {
+                        throw new IllegalArgumentException("Unsupported JSON schema keyword '" + keyword + "'");
+                    }
+                }
+            }
+        }
+        return new JsonSchema(checks.toArray(new Check[0]));
+    }
+
+    /**
+     * @return the violations, or a single one when the body is not JSON
+     */
+    public Result validate(String json) {
+        JsonElement value;
+        try {
+            value = JsonParser.parseString(json);
+        } catch (JsonParseException e) {
+            return new Result(1, List.of("$ is not valid JSON: " + e.getMessage()));
+        }
+        return validate(value);
+    }
+
+    public Result validate(JsonElement value) {
+        Violations out = new Violations();
+        check(value, Location.ROOT, out);
+        return new Result(out.count, out.messages);
+    }
+
+    private void check(JsonElement value, Location at, Violations out) {
+        for (Check check : checks) check.check(value, at, out);
+    }
+
+    // ========== Keywords ==========
+
+    private static Check type(JsonElement argument) {
+        EnumSet<Type> allowed = EnumSet.noneOf(Type.class);
+        if (argument.isJsonArray()) {
+            for (JsonElement type : argument.getAsJsonArray()) {
+                allowed.add(Type.valueOf(type.getAsString().toUpperCase()));
+            }
+        } else {
+            allowed.add(Type.valueOf(argument.getAsString().toUpperCase()));
+        }
+        // Every integer is also a number
+        if (allowed.contains(Type.NUMBER)) allowed.add(Type.INTEGER);
+        String expected = allowed.stream().map(type -> type.name().toLowerCase())
+                .collect(Collectors.joining(" or "));
+        return (value, at, out) -> {
+            Type actual = typeOf(value);
+            if (!allowed.contains(actual)) out.add(at, "is " + actual.name().toLowerCase() + ", expected " + expected);
+        };
+    }
+
+    private static Check oneOf(JsonArray values) {
+        Set<JsonElement> allowed = new HashSet<>();
+        values.forEach(allowed::add);
+        return (value, at, out) -> {
+            if (!allowed.contains(value)) out.add(at, "is " + value + ", expected one of " + values);
+        };
+    }
+
+    private static Check equalTo(JsonElement expected) {
+        return (value, at, out) -> {
+            if (!expected.equals(value)) out.add(at, "is " + value + ", expected " + expected);
+        };
+    }
+
+    private static Check required(JsonArray names) {
+        String[] fields = new String[names.size()];
+        for (int i = 0; i < fields.length; i++) fields[i] = names.get(i).getAsString();
+        return (value, at, out) -> {
+            if (!value.isJsonObject()) return;
+            JsonObject object = value.getAsJsonObject();
+            for (String field : fields) {
+                if (!object.has(field)) out.add(at.property(field), "missing");
+            }
+        };
+    }
+
+    private static Check properties(JsonObject properties, Function<String, JsonSchema> refs) {
+        String[] names = properties.keySet().toArray(new String[0]);
+        JsonSchema[] schemas = new JsonSchema[names.length];
+        for (int i = 0; i < names.length; i++) schemas[i] = compile(properties.getAsJsonObject(names[i]), refs);
+        return (value, at, out) -> {
+            if (!value.isJsonObject()) return;
+            JsonObject object = value.getAsJsonObject();
+            for (int i = 0; i < names.length; i++) {
+                JsonElement property = object.get(names[i]);
+                if (property != null) schemas[i].check(property, at.property(names[i]), out);
+            }
+        };
+    }
+
+    private static Check additionalProperties(JsonObject schema, JsonElement argument,
+                                              Function<String, JsonSchema> refs) {
+        Set<String> declared = schema.has("properties")
+                ? Set.copyOf(schema.getAsJsonObject("properties").keySet()) : Set.of();
+        JsonSchema extra = argument.isJsonObject() ? compile(argument.getAsJsonObject(), refs) : null;
+        boolean allowed = extra != null || argument.getAsBoolean();
+        return (value, at, out) -> {
+            if (!value.isJsonObject() || (allowed && extra == null)) return;
+            for (Map.Entry<String, JsonElement> entry : value.getAsJsonObject().entrySet()) {
+                if (declared.contains(entry.getKey())) continue;
+                if (extra == null) {
+                    out.add(at.property(entry.getKey()), "is not allowed");
+                } else {
+                    extra.check(entry.getValue(), at.property(entry.getKey()), out);
+                }
+            }
+        };
+    }
+
+    private static Check items(JsonSchema item) {
+        return (value, at, out) -> {
+            if (!value.isJsonArray()) return;
+            JsonArray array = value.getAsJsonArray();
+            for (int i = 0; i < array.size(); i++) item.check(array.get(i), at.element(i), out);
+        };
+    }
+
+    private static Check size(String keyword, int limit) {
+        boolean min = keyword.startsWith("min");
+        return (value, at, out) -> {
+            if (!value.isJsonArray()) return;
+            int size = value.getAsJsonArray().size();
+            if (min ? size < limit : size > limit) out.add(at, "has " + size + " item(s), " + keyword + " " + limit);
+        };
+    }
+
+    private static Check bound(String keyword, double limit) {
+        return (value, at, out) -> {
+            if (!isNumber(value)) return;
+            double number = value.getAsDouble();
+            boolean ok = switch (keyword) {
+                case "minimum" -> number >= limit;
+                case "maximum" -> number <= limit;
+                case "exclusiveMinimum" -> number > limit;
+                default -> number < limit;
+            };
+            if (!ok) out.add(at, "is " + value + ", " + keyword + " " + limit);
+        };
+    }
+
+    private static Check length(String keyword, int limit) {
+        boolean min = keyword.startsWith("min");
+        return (value, at, out) -> {
+            if (!isString(value)) return;
+            String text = value.getAsString();
+            int length = text.codePointCount(0, text.length());
+            if (min ? length < limit : length > limit) {
+                out.add(at, "has length " + length + ", " + keyword + " " + limit);
+            }
+        };
+    }
+
+    private static Check pattern(Pattern pattern) {
+        return (value, at, out) -> {
+            if (isString(value) && !pattern.matcher(value.getAsString()).find()) {
+                out.add(at, "is " + value + ", expected to match " + pattern);
+            }
+        };
+    }
+
+    /**
+     * Resolved lazily so schemas may refer to each other (or themselves)
+     * without compile order mattering
+     */
+    private static Check ref(String name, Function<String, JsonSchema> refs) {
+        return new Check() {
+            private volatile JsonSchema target;
+
+            @Override
+            public void check(JsonElement value, Location at, Violations out) {
+                JsonSchema schema = target;
+                if (schema == null) target = schema = refs.apply(name);
+                schema.check(value, at, out);
+            }
+        };
+    }
+
+    // ========== Helpers ==========
+
+    private static Type typeOf(JsonElement value) {
+        if (value.isJsonNull()) return Type.NULL;
+        if (value.isJsonObject()) return Type.OBJECT;
+        if (value.isJsonArray()) return Type.ARRAY;
+        JsonPrimitive primitive = value.getAsJsonPrimitive();
+        if (primitive.isBoolean()) return Type.BOOLEAN;
+        if (primitive.isString()) return Type.STRING;
+        double number = primitive.getAsDouble();
+        return number == Math.rint(number) && !Double.isInfinite(number) ? Type.INTEGER : Type.NUMBER;
+    }
+
+    private static boolean isNumber(JsonElement value) {
+        return value.isJsonPrimitive() && value.getAsJsonPrimitive().isNumber();
+    }
+
+    private static boolean isString(JsonElement value) {
+        return value.isJsonPrimitive() && value.getAsJsonPrimitive().isString();
+    }
+}
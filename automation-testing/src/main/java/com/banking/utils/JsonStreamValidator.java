@@ -0,0 +1,180 @@
+package com.banking.utils;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * JSON Stream Validator - Checks every element of a JSON array in one pass
+ * Reads tokens with gson's JsonReader and keeps only the current element's
+ * matched fields, so the validator's own memory stays constant however long
+ * the list; nothing is materialised as an object graph. It does not bound the
+ * caller's memory: a response sent through ApiSpecs is already buffered as
+ * bytes (O(body)), and validating reads that buffer. Rules name top-level
+ * fields of each element; other fields and nested values are skipped unread
+ */
+public class JsonStreamValidator {
+    private static final int MAX_REPORTED = 10;
+
+    /**
+     * What a field's value must be
+     */
+    public enum Kind {
+        /** key present, null allowed */
+        PRESENT,
+        /** present and not null */
+        NON_NULL,
+        STRING,
+        NUMBER,
+        BOOLEAN,
+        OBJECT,
+        ARRAY
+    }
+
+    private record Rule(Kind kind, Predicate<String> value, String expected) {
+    }
+
+    /**
+     * @param elements array elements read
+     * @param violations total rule violations (only the first few are described)
+     */
+    public record Result(long elements, long violations, List<String> messages) {
+        public boolean passed() {
+            return violations == 0;
+        }
+
+        public String summary() {
+            if (passed()) return elements + " element(s) valid";
+            return violations + " violation(s) in " + elements + " element(s): " + String.join("; ", messages)
+                    + (violations > messages.size() ? "; ..." : "");
+        }
+    }
+
+    private final Map<String, Rule> rules = new LinkedHashMap<>();
+
+    public JsonStreamValidator require(String field, Kind kind) {
+        rules.put(field, new Rule(kind, null, null));
+        return this;
+    }
+
+    public JsonStreamValidator requireAll(Kind kind, String... fields) {
+        for (String field : fields) require(field, kind);
+        return this;
+    }
+
+    /**
+     * Field must be a non-null scalar whose text passes the test
+     * @param expected how the failure message describes the expected value
+     */
+    public JsonStreamValidator requireValue(String field, Predicate<String> value, String expected) {
+        rules.put(field, new Rule(Kind.NON_NULL, value, expected));
+        return this;
+    }
+
+    public Result validate(InputStream in) throws IOException {
+        return validate(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IOException on malformed JSON or when the root is not an array
+     */
+    public Result validate(Reader in) throws IOException {
+        try (JsonReader reader = new JsonReader(in)) {
+            if (reader.peek() != JsonToken.BEGIN_ARRAY) {
+                throw new IOException("Expected a JSON array but found " + reader.peek());
+            }
+            List<String> names = new ArrayList<>(rules.keySet());
+            Map<String, Integer> positions = new HashMap<>();
+            for (int i = 0; i < names.size(); i++) positions.put(names.get(i), i);
+            boolean[] seen = new boolean[names.size()];
+            List<String> messages = new ArrayList<>();
+            long violations = 0;
+            long index = 0;
+
+            reader.beginArray();
+            for (; reader.hasNext(); index++) {
+                if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+                    violations++;
+                    report(messages, "[" + index + "] is " + reader.peek() + ", not an object");
+                    reader.skipValue();
+                    continue;
+                }
+                Arrays.fill(seen, false);
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    String name = reader.nextName();
+                    Integer position = positions.get(name);
+                    if (position == null) {
+                        reader.skipValue();
+                        continue;
+                    }
+                    seen[position] = true;
+                    String problem = check(reader, rules.get(name));
+                    if (problem != null) {
+                        violations++;
+                        report(messages, "[" + index + "]." + name + " " + problem);
+                    }
+                }
+                reader.endObject();
+                for (int i = 0; i < seen.length; i++) {
+                    if (!seen[i]) {
+                        violations++;
+                        report(messages, "[" + index + "]." + names.get(i) + " missing");
+                    }
+                }
+            }
+            reader.endArray();
+            return new Result(index, violations, messages);
+        }
+    }
+
+    /**
+     * Consume the value under the reader and check it
+     * @return what is wrong with it, or null
+     */
+    private static String check(JsonReader reader, Rule rule) throws IOException {
+        JsonToken token = reader.peek();
+        if (token == JsonToken.NULL) {
+            reader.nextNull();
+            return rule.kind() == Kind.PRESENT ? null : "is null";
+        }
+        boolean matches = switch (rule.kind()) {
+            case PRESENT, NON_NULL -> true;
+            case STRING -> token == JsonToken.STRING;
+            case NUMBER -> token == JsonToken.NUMBER;
+            case BOOLEAN -> token == JsonToken.BOOLEAN;
+            case OBJECT -> token == JsonToken.BEGIN_OBJECT;
+            case ARRAY -> token == JsonToken.BEGIN_ARRAY;
+        };
+        if (rule.value() == null || !matches) {
+            reader.skipValue();
+            return matches ? null : "is " + token + ", expected " + rule.kind();
+        }
+        String text = switch (token) {
+            case STRING, NUMBER -> reader.nextString();
+            case BOOLEAN -> String.valueOf(reader.nextBoolean());
+            default -> null;
+        };
+        if (text == null) {
+            reader.skipValue();
+            return "is " + token + ", expected " + rule.expected();
+        }
+        return rule.value().test(text) ? null : "is '" + text + "', expected " + rule.expected();
+    }
+
+    private static void report(List<String> messages, String message) {
+        if (messages.size() < MAX_REPORTED) messages.add(message);
+    }
+}
@@ -0,0 +1,109 @@
+package com.banking.utils;
+
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.interactions.Interactive;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.function.Supplier;
+
+/**
+ * Lazy Driver - WebDriver proxy that starts the real browser on first use
+ * Page objects, waits and PageFactory can be built against it for free;
+ * scenarios that never touch the UI never pay for a browser
+ */
+public class LazyDriver implements InvocationHandler {
+    private static final Class<?>[] INTERFACES = {
+            WebDriver.class, JavascriptExecutor.class, TakesScreenshot.class,
+            Interactive.class, HasCapabilities.class, WrapsDriver.class
+    };
+
+    private final Supplier<WebDriver> starter;
+    private volatile WebDriver target;
+
+    private LazyDriver(Supplier<WebDriver> starter) {
+        this.starter = starter;
+    }
+
+    public static WebDriver create(Supplier<WebDriver> starter) {
+        return (WebDriver) Proxy.newProxyInstance(LazyDriver.class.getClassLoader(),
+                INTERFACES, new LazyDriver(starter));
+    }
+
+    /**
+     * @return false only for a lazy proxy whose browser has not been started yet
+     */
+    public static boolean isStarted(WebDriver driver) {
+        LazyDriver handler = handlerOf(driver);
+        return handler == null || handler.target != null;
+    }
+
+    /**
+     * @return the real driver behind a lazy proxy (null if never started),
+     * or the driver itself when it is not lazy
+     */
+    public static WebDriver unwrap(WebDriver driver) {
+        LazyDriver handler = handlerOf(driver);
+        return handler != null ? handler.target : driver;
+    }
+
+    private static LazyDriver handlerOf(WebDriver driver) {
+        if (driver != null && Proxy.isProxyClass(driver.getClass())
+                && Proxy.getInvocationHandler(driver) instanceof LazyDriver) {
+            return (LazyDriver) Proxy.getInvocationHandler(driver);
+        }
+        return null;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return target != null ? "LazyDriver[" + target + "]" : "LazyDriver[not started]";
+            case "quit":
+                if (target == null) return null;
+                break;
+            case "getWrappedDriver":
+                return materialize();
+            default:
+                break;
+        }
+
+        WebDriver real = materialize();
+        if (!method.getDeclaringClass().isInstance(real)) {
+            throw new UnsupportedOperationException(real.getClass().getSimpleName()
+                    + " does not support " + method.getDeclaringClass().getSimpleName());
+        }
+        try {
+            return method.invoke(real, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private WebDriver materialize() {
+        WebDriver current = target;
+        if (current == null) {
+            synchronized (this) {
+                current = target;
+                if (current == null) {
+                    long start = System.nanoTime();
+                    current = starter.get();
+                    RunMetrics.recordNanos("driver.lazy.start", System.nanoTime() - start);
+                    target = current;
+                }
+            }
+        }
+        return current;
+    }
+}
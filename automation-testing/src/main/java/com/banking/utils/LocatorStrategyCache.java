@@ -0,0 +1,94 @@
+package com.banking.utils;
+
+import io.appium.java_client.AppiumBy;
+import org.openqa.selenium.By;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Locator Strategy Cache - Remembers which locator strategy found a mobile
+ * element by its text, per platform, so the fallback chain starts with the
+ * strategy that worked last time instead of timing out on the others
+ */
+public class LocatorStrategyCache {
+
+    public enum Strategy {
+        ACCESSIBILITY_ID {
+            @Override
+            public By locator(String text) {
+                return AppiumBy.accessibilityId(text);
+            }
+        },
+        UI_AUTOMATOR {
+            @Override
+            public By locator(String text) {
+                return AppiumBy.androidUIAutomator("new UiSelector().text(\"" + text + "\")");
+            }
+
+            @Override
+            boolean appliesTo(String platform) {
+                return "android".equals(platform);
+            }
+        },
+        XPATH {
+            @Override
+            public By locator(String text) {
+                return By.xpath("//*[contains(@text,'" + text + "') or "
+                        + "contains(@content-desc,'" + text + "') or "
+                        + "contains(@label,'" + text + "')]");
+            }
+        };
+
+        public abstract By locator(String text);
+
+        boolean appliesTo(String platform) {
+            return true;
+        }
+    }
+
+    private static final Map<String, Strategy> learned = new ConcurrentHashMap<>();
+
+    static {
+        RunMetrics.registerGauge("locator.cache.hit.rate", () -> {
+            long hits = RunMetrics.getCount("locator.cache.hit");
+            long total = hits + RunMetrics.getCount("locator.cache.miss");
+            return total > 0 ? String.format("%.1f%% (%d/%d)", hits * 100.0 / total, hits, total) : "n/a";
+        });
+    }
+
+    /**
+     * @return strategy that last resolved this text on this platform, or null
+     */
+    public static Strategy lookup(String platform, String text) {
+        return learned.get(key(platform, text));
+    }
+
+    /**
+     * Strategies to probe for this platform in fallback order. The one already
+     * tried from the cache is moved last rather than dropped: a probe that timed
+     * out once (screen still loading) may be the only strategy that matches
+     */
+    public static List<Strategy> fallbackOrder(String platform, Strategy alreadyTried) {
+        List<Strategy> order = new ArrayList<>();
+        for (Strategy strategy : Strategy.values()) {
+            if (strategy != alreadyTried && strategy.appliesTo(platform)) order.add(strategy);
+        }
+        if (alreadyTried != null && alreadyTried.appliesTo(platform)) order.add(alreadyTried);
+        return order;
+    }
+
+    public static void remember(String platform, String text, Strategy strategy) {
+        learned.put(key(platform, text), strategy);
+    }
+
+    public static void forget(String platform, String text) {
+        learned.remove(key(platform, text));
+    }
+
+    private static String key(String platform, String text) {
+        return platform + "|" + text;
+    }
+}
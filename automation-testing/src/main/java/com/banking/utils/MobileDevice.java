@@ -0,0 +1,17 @@
+package com.banking.utils;
+
+/**
+ * Mobile Device - One device/emulator/simulator of the DeviceFarm with the
+ * ports reserved for its Appium session (unique across the farm)
+ */
+public record MobileDevice(String name, String platform, String platformVersion, String udid,
+                           String serverUrl, int systemPort, int wdaLocalPort, int mjpegPort) {
+
+    public boolean isAndroid() {
+        return "android".equalsIgnoreCase(platform);
+    }
+
+    public boolean isIOS() {
+        return "ios".equalsIgnoreCase(platform);
+    }
+}
@@ -0,0 +1,235 @@
+package com.banking.utils;
+
+import io.appium.java_client.AppiumDriver;
+import io.appium.java_client.InteractsWithApps;
+import org.openqa.selenium.WebDriverException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Mobile Session Pool - Keeps Appium sessions alive across scenarios per device
+ * Between scenarios the app is terminated, its data cleared and relaunched
+ * instead of starting a new session (which reinstalls the APK/IPA). The app is
+ * reinstalled on a reused session only when the app binary's checksum changes
+ */
+public class MobileSessionPool {
+    private static final Map<String, MobileSessionPool> pools = new ConcurrentHashMap<>();
+    private static final Map<String, String> binaryChecksums = new ConcurrentHashMap<>();
+
+    private final String device;
+    private final String platform;
+    private final int maxUses;
+    private final LinkedBlockingDeque<PooledSession> idle = new LinkedBlockingDeque<>();
+    private final Map<AppiumDriver, PooledSession> leased = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(MobileSessionPool::shutdownAll));
+    }
+
+    private MobileSessionPool(String platform, String device) {
+        this.platform = platform;
+        this.device = device;
+        this.maxUses = ConfigReader.getInt("mobile.pool.max.uses", 50);
+    }
+
+    public static MobileSessionPool forDevice(String platform, String device, String serverUrl) {
+        return pools.computeIfAbsent(platform + "|" + device + "|" + serverUrl,
+                key -> new MobileSessionPool(platform, device));
+    }
+
+    /**
+     * Lease the idle session for this device (reinstalling the app first if
+     * its binary changed), or start a new one with starter
+     * @param appId Android package or iOS bundle id
+     * @param appPath APK/IPA/.app path, or null when the app is preinstalled
+     */
+    public AppiumDriver lease(Supplier<AppiumDriver> starter, String appId, String appPath) {
+        String checksum = checksum(appPath);
+        PooledSession session;
+        while ((session = idle.pollFirst()) != null) {
+            if (session.uses >= maxUses) {
+                evict(session, "reached " + maxUses + " uses");
+            } else if (isHealthy(session, appId)) {
+                break;
+            } else {
+                evict(session, "health check failed");
+            }
+        }
+
+        if (session == null) {
+            RunMetrics.increment("mobile.pool.miss");
+            long start = System.nanoTime();
+            session = new PooledSession(starter.get(), checksum);
+            RunMetrics.recordNanos("mobile.session.startup." + device, System.nanoTime() - start);
+        } else {
+            RunMetrics.increment("mobile.pool.hit");
+            if (checksum != null && !checksum.equals(session.installedChecksum)) {
+                reinstall(session, appId, appPath);
+                session.installedChecksum = checksum;
+            }
+        }
+        session.uses++;
+        leased.put(session.driver, session);
+        return session.driver;
+    }
+
+    /**
+     * Return a session: terminate the app, clear its data and relaunch it so
+     * the next scenario starts from a clean state
+     */
+    public void release(AppiumDriver driver, String appId) {
+        PooledSession session = leased.remove(driver);
+        if (session == null) {
+            driver.quit();
+            return;
+        }
+        if (session.uses >= maxUses) {
+            evict(session, "reached " + maxUses + " uses");
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            resetApp(driver, appId);
+            idle.offerFirst(session);
+        } catch (Exception e) {
+            evict(session, "reset failed: " + e.getMessage());
+        } finally {
+            RunMetrics.recordNanos("mobile.session.reset." + device, System.nanoTime() - start);
+        }
+    }
+
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    public int getLeasedCount() {
+        return leased.size();
+    }
+
+    /**
+     * Quit every session, idle or still leased (a scenario running at JVM
+     * exit would otherwise leave its Appium session open on the device)
+     */
+    public static void shutdownAll() {
+        pools.values().forEach(MobileSessionPool::shutdown);
+    }
+
+    public void shutdown() {
+        PooledSession session;
+        while ((session = idle.pollFirst()) != null) {
+            quietQuit(session.driver);
+        }
+        for (AppiumDriver driver : List.copyOf(leased.keySet())) {
+            if (leased.remove(driver) != null) quietQuit(driver);
+        }
+    }
+
+    // ========== Internals ==========
+
+    private void resetApp(AppiumDriver driver, String appId) {
+        InteractsWithApps apps = (InteractsWithApps) driver;
+        apps.terminateApp(appId);
+        try {
+            // UiAutomator2 and XCUITest simulators; real iOS devices keep their data
+            driver.executeScript("mobile: clearApp", Map.of(platform.equals("ios") ? "bundleId" : "appId", appId));
+        } catch (WebDriverException e) {
+            System.out.println("Cannot clear app data on " + device + ": " + e.getMessage());
+        }
+        apps.activateApp(appId);
+    }
+
+    private void reinstall(PooledSession session, String appId, String appPath) {
+        long start = System.nanoTime();
+        InteractsWithApps apps = (InteractsWithApps) session.driver;
+        apps.terminateApp(appId);
+        apps.installApp(appPath);
+        apps.activateApp(appId);
+        RunMetrics.increment("mobile.app.reinstall");
+        RunMetrics.recordNanos("mobile.app.reinstall." + device, System.nanoTime() - start);
+    }
+
+    private boolean isHealthy(PooledSession session, String appId) {
+        try {
+            return session.driver.getSessionId() != null
+                    && ((InteractsWithApps) session.driver).queryAppState(appId) != null;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private void evict(PooledSession session, String reason) {
+        System.out.println("Evicting " + platform + " session on " + device + " after "
+                + session.uses + " uses: " + reason);
+        RunMetrics.increment("mobile.pool.evicted");
+        quietQuit(session.driver);
+    }
+
+    private static void quietQuit(AppiumDriver driver) {
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            System.err.println("Failed to quit pooled mobile session: " + e.getMessage());
+        }
+    }
+
+    /**
+     * CRC32C of the app binary (every file of an .app bundle), cached per
+     * path, size and modification time so unchanged binaries are read once
+     */
+    private static String checksum(String appPath) {
+        if (appPath == null || appPath.isEmpty()) return null;
+        Path path = Paths.get(appPath);
+        if (!Files.exists(path)) return null;
+        try (Stream<Path> walk = Files.walk(path)) {
+            List<Path> files = walk.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+            StringBuilder stamp = new StringBuilder(appPath);
+            for (Path file : files) {
+                stamp.append('|').append(Files.size(file)).append('-')
+                        .append(Files.getLastModifiedTime(file).toMillis());
+            }
+            return binaryChecksums.computeIfAbsent(stamp.toString(), k -> crc(files));
+        } catch (IOException e) {
+            System.err.println("Cannot checksum app binary " + appPath + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static String crc(List<Path> files) {
+        CRC32C crc = new CRC32C();
+        byte[] buffer = new byte[1 << 20];
+        for (Path file : files) {
+            try (InputStream in = Files.newInputStream(file)) {
+                int read;
+                while ((read = in.read(buffer)) > 0) {
+                    crc.update(buffer, 0, read);
+                }
+            } catch (IOException e) {
+                throw new RuntimeException("Cannot read " + file + ": " + e.getMessage(), e);
+            }
+        }
+        return Long.toHexString(crc.getValue());
+    }
+
+    private static class PooledSession {
+        private final AppiumDriver driver;
+        private String installedChecksum;
+        private int uses;
+
+        PooledSession(AppiumDriver driver, String installedChecksum) {
+            this.driver = driver;
+            this.installedChecksum = installedChecksum;
+        }
+    }
+}
@@ -0,0 +1,431 @@
+package com.banking.utils;
+
+import com.google.gson.stream.JsonWriter;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.DevTools;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Network Recorder - Records browser traffic over DevTools (Chrome/Edge only)
+ * Each session keeps completed requests in a fixed-size ring buffer (oldest
+ * dropped first) with only the fields a HAR and a waterfall need. Per scenario
+ * the buffer is drained into a request waterfall and, for failing or slow
+ * scenarios, a HAR file; API (XHR/Fetch) latencies feed run-wide per-endpoint
+ * percentiles
+ */
+public class NetworkRecorder {
+    private static final int WATERFALL_WIDTH = 40;
+    private static final int MAX_SAMPLES_PER_ENDPOINT = 10_000;
+
+    private static final Map<WebDriver, Session> sessions =
+            Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Map<String, List<Long>> endpointLatencies = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Long> scenarioStart = new ThreadLocal<>();
+
+    public static boolean isEnabled() {
+        return ConfigReader.getBoolean("network.capture.enabled", false);
+    }
+
+    /**
+     * Start recording on a freshly created session
+     */
+    public static void apply(WebDriver driver) {
+        if (!DevToolsHelper.isSupported(driver)) {
+            System.out.println("network.capture.enabled needs Chrome or Edge; ignored for "
+                    + driver.getClass().getSimpleName());
+            return;
+        }
+        DevTools devTools = DevToolsHelper.session(driver);
+        Session session = new Session(ConfigReader.getInt("network.capture.buffer.size", 1000));
+
+        DevToolsHelper.listen(devTools, "Network.requestWillBeSent", session::requestWillBeSent);
+        DevToolsHelper.listen(devTools, "Network.responseReceived", session::responseReceived);
+        DevToolsHelper.listen(devTools, "Network.loadingFinished", event ->
+                session.finished(DevToolsHelper.string(event, "requestId"),
+                        DevToolsHelper.decimal(event, "timestamp"),
+                        DevToolsHelper.number(event, "encodedDataLength"), null));
+        DevToolsHelper.listen(devTools, "Network.loadingFailed", event ->
+                session.finished(DevToolsHelper.string(event, "requestId"),
+                        DevToolsHelper.decimal(event, "timestamp"), 0,
+                        DevToolsHelper.string(event, "errorText")));
+
+        DevToolsHelper.send(devTools, "Network.enable", Map.of());
+        sessions.put(CommandTracer.undecorate(driver), session);
+    }
+
+    public static void startScenario() {
+        scenarioStart.set(System.nanoTime());
+    }
+
+    /**
+     * Drain the requests recorded since the previous call (once per scenario,
+     * so pooled sessions report per scenario)
+     * @return the scenario's traffic, or null if nothing is recorded on this driver
+     */
+    public static ScenarioTraffic takeScenario(WebDriver driver) {
+        WebDriver real = LazyDriver.unwrap(driver);
+        if (real != null) real = CommandTracer.undecorate(real);
+        Session session = real != null ? sessions.get(real) : null;
+        Long start = scenarioStart.get();
+        scenarioStart.remove();
+        if (session == null) return null;
+
+        ScenarioTraffic traffic = new ScenarioTraffic(session.drain(),
+                start != null ? (System.nanoTime() - start) / 1_000_000 : 0);
+        for (Request request : traffic.requests) {
+            if (request.isApi() && request.error == null) {
+                List<Long> samples = endpointLatencies.computeIfAbsent(request.endpoint(),
+                        k -> Collections.synchronizedList(new ArrayList<>()));
+                if (samples.size() < MAX_SAMPLES_PER_ENDPOINT) samples.add(Math.round(request.durationMillis()));
+            }
+        }
+        RunMetrics.add("network.requests", traffic.requests.size());
+        RunMetrics.add("network.requests.dropped", traffic.dropped);
+        return traffic;
+    }
+
+    /**
+     * Run-wide latency percentiles per API endpoint, or null if none were recorded
+     */
+    public static String endpointSummary() {
+        if (endpointLatencies.isEmpty()) return null;
+        StringBuilder sb = new StringBuilder("API latency per endpoint (browser view):\n");
+        sb.append(String.format("  %-48s %6s %7s %7s %7s %7s%n", "endpoint", "count", "p50", "p90", "p99", "max"));
+        new TreeMap<>(endpointLatencies).forEach((endpoint, samples) -> {
+            long[] sorted;
+            synchronized (samples) {
+                sorted = samples.stream().mapToLong(Long::longValue).toArray();
+            }
+            Arrays.sort(sorted);
+            sb.append(String.format("  %-48s %6d %5dms %5dms %5dms %5dms%n", endpoint, sorted.length,
+                    percentile(sorted, 50), percentile(sorted, 90), percentile(sorted, 99),
+                    sorted[sorted.length - 1]));
+        });
+        return sb.toString().trim();
+    }
+
+    private static long percentile(long[] sorted, int percent) {
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+
+    // ========== Scenario traffic ==========
+
+    public static class ScenarioTraffic {
+        private final List<Request> requests;
+        private final long dropped;
+        private final long scenarioMillis;
+
+        ScenarioTraffic(Drained drained, long scenarioMillis) {
+            this.requests = drained.requests;
+            this.dropped = drained.dropped;
+            this.scenarioMillis = scenarioMillis;
+        }
+
+        /**
+         * A HAR is kept for failed scenarios and for scenarios slower than
+         * network.har.slow.ms (0 = never for passing ones)
+         */
+        public boolean shouldWriteHar(boolean failed) {
+            long slow = ConfigReader.getInt("network.har.slow.ms", 30000);
+            return !requests.isEmpty() && (failed || (slow > 0 && scenarioMillis > slow));
+        }
+
+        /**
+         * Request waterfall in start order, offsets relative to the first request
+         * @return report text, or null when no request was recorded
+         */
+        public String waterfall() {
+            if (requests.isEmpty()) return null;
+            int max = ConfigReader.getInt("network.waterfall.max.rows", 50);
+            double origin = requests.get(0).startSeconds;
+            double end = 0;
+            for (Request request : requests) {
+                end = Math.max(end, (request.endSeconds - origin) * 1000);
+            }
+            double scale = end > 0 ? WATERFALL_WIDTH / end : 0;
+
+            StringBuilder sb = new StringBuilder(String.format("Network: %d request(s) over %.0fms%s%n",
+                    requests.size(), end, dropped > 0 ? " (" + dropped + " older dropped)" : ""));
+            int shown = 0;
+            for (Request request : requests) {
+                if (shown++ == max) {
+                    sb.append("  ... ").append(requests.size() - max).append(" more\n");
+                    break;
+                }
+                double offset = (request.startSeconds - origin) * 1000;
+                int lead = (int) (offset * scale);
+                int bar = Math.max(1, (int) Math.round(request.durationMillis() * scale));
+                sb.append(String.format("  %7.0fms %6.0fms %-4s %3s |%-" + (WATERFALL_WIDTH + 1) + "s| %s %s%n",
+                        offset, request.durationMillis(), request.method,
+                        request.error != null ? "ERR" : String.valueOf(request.status),
+                        " ".repeat(lead) + "#".repeat(Math.min(bar, WATERFALL_WIDTH + 1 - lead)),
+                        shorten(request.url), request.error != null ? request.error : ""));
+            }
+            return sb.toString().trim();
+        }
+
+        /**
+         * Write the scenario's requests as HAR 1.2 under target/har
+         * @return path of the written file, or null on failure
+         */
+        public String writeHar(String scenarioName) {
+            Path file = Paths.get("target", "har",
+                    scenarioName.replaceAll("[^A-Za-z0-9_-]+", "_") + "_" + System.currentTimeMillis() + ".har");
+            try {
+                Files.createDirectories(file.getParent());
+                try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+                     JsonWriter json = new JsonWriter(out)) {
+                    json.setIndent(" ");
+                    json.beginObject().name("log").beginObject();
+                    json.name("version").value("1.2");
+                    json.name("creator").beginObject().name("name").value("banking-automation")
+                            .name("version").value("1.0").endObject();
+                    json.name("entries").beginArray();
+                    for (Request request : requests) {
+                        request.writeHar(json);
+                    }
+                    json.endArray().endObject().endObject();
+                }
+                RunMetrics.increment("network.har.written");
+                return file.toString();
+            } catch (IOException e) {
+                System.err.println("Failed to write HAR " + file + ": " + e.getMessage());
+                return null;
+            }
+        }
+
+        private static String shorten(String url) {
+            return url.length() > 100 ? url.substring(0, 97) + "..." : url;
+        }
+    }
+
+    // ========== Per-session buffer ==========
+
+    private record Drained(List<Request> requests, long dropped) {
+    }
+
+    private static class Session {
+        private final Request[] ring;
+        private final Map<String, Request> inFlight = new LinkedHashMap<>();
+        private int next;
+        private int size;
+        private long dropped;
+
+        Session(int capacity) {
+            this.ring = new Request[Math.max(1, capacity)];
+        }
+
+        @SuppressWarnings("unchecked")
+        synchronized void requestWillBeSent(Map<String, Object> event) {
+            Map<String, Object> request = (Map<String, Object>) event.get("request");
+            if (request == null) return;
+            String id = DevToolsHelper.string(event, "requestId");
+            Request previous = inFlight.remove(id);
+            if (previous != null) {
+                // Redirect: the same requestId continues with a new URL
+                Map<String, Object> redirect = (Map<String, Object>) event.get("redirectResponse");
+                if (redirect != null) previous.response(redirect);
+                previous.endSeconds = DevToolsHelper.decimal(event, "timestamp");
+                add(previous);
+            }
+            Request entry = new Request();
+            entry.url = DevToolsHelper.string(request, "url");
+            entry.method = DevToolsHelper.string(request, "method");
+            entry.type = DevToolsHelper.string(event, "type");
+            entry.startSeconds = DevToolsHelper.decimal(event, "timestamp");
+            entry.wallMillis = (long) (DevToolsHelper.decimal(event, "wallTime") * 1000);
+            inFlight.put(id, entry);
+            if (inFlight.size() > ring.length) {
+                // Requests that never finish must not grow the buffer
+                String oldest = inFlight.keySet().iterator().next();
+                inFlight.remove(oldest);
+                dropped++;
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        synchronized void responseReceived(Map<String, Object> event) {
+            Request entry = inFlight.get(DevToolsHelper.string(event, "requestId"));
+            Map<String, Object> response = (Map<String, Object>) event.get("response");
+            if (entry != null && response != null) entry.response(response);
+        }
+
+        synchronized void finished(String id, double timestamp, long bytes, String error) {
+            Request entry = inFlight.remove(id);
+            if (entry == null) return;
+            entry.endSeconds = timestamp;
+            entry.bytes = bytes;
+            entry.error = error;
+            add(entry);
+        }
+
+        private void add(Request entry) {
+            if (size == ring.length) dropped++;
+            else size++;
+            ring[next] = entry;
+            next = (next + 1) % ring.length;
+        }
+
+        synchronized Drained drain() {
+            List<Request> result = new ArrayList<>(size);
+            for (int i = size; i > 0; i--) {
+                result.add(ring[(next - i + ring.length) % ring.length]);
+            }
+            result.sort(Comparator.comparingDouble(r -> r.startSeconds));
+            Drained drained = new Drained(result, dropped);
+            Arrays.fill(ring, null);
+            next = 0;
+            size = 0;
+            dropped = 0;
+            return drained;
+        }
+    }
+
+    private static class Request {
+        private String url;
+        private String method;
+        private String type;
+        private int status;
+        private String statusText = "";
+        private String protocol = "";
+        private String mimeType = "";
+        private long wallMillis;
+        private double startSeconds;
+        private double endSeconds;
+        private long bytes;
+        private String error;
+        // Offsets in ms from timing.requestTime, -1 when not applicable
+        private double requestTime;
+        private double dnsStart = -1, dnsEnd = -1, connectStart = -1, connectEnd = -1;
+        private double sslStart = -1, sslEnd = -1, sendStart = -1, sendEnd = -1, headersEnd = -1;
+
+        @SuppressWarnings("unchecked")
+        void response(Map<String, Object> response) {
+            status = (int) DevToolsHelper.number(response, "status");
+            statusText = String.valueOf(response.getOrDefault("statusText", ""));
+            protocol = String.valueOf(response.getOrDefault("protocol", ""));
+            mimeType = String.valueOf(response.getOrDefault("mimeType", ""));
+            Map<String, Object> timing = (Map<String, Object>) response.get("timing");
+            if (timing != null) {
+                requestTime = DevToolsHelper.decimal(timing, "requestTime");
+                dnsStart = DevToolsHelper.decimal(timing, "dnsStart");
+                dnsEnd = DevToolsHelper.decimal(timing, "dnsEnd");
+                connectStart = DevToolsHelper.decimal(timing, "connectStart");
+                connectEnd = DevToolsHelper.decimal(timing, "connectEnd");
+                sslStart = DevToolsHelper.decimal(timing, "sslStart");
+                sslEnd = DevToolsHelper.decimal(timing, "sslEnd");
+                sendStart = DevToolsHelper.decimal(timing, "sendStart");
+                sendEnd = DevToolsHelper.decimal(timing, "sendEnd");
+                headersEnd = DevToolsHelper.decimal(timing, "receiveHeadersEnd");
+            }
+        }
+
+        double durationMillis() {
+            return Math.max(0, (endSeconds - startSeconds) * 1000);
+        }
+
+        boolean isApi() {
+            return "XHR".equals(type) || "Fetch".equals(type);
+        }
+
+        /**
+         * METHOD /path with numeric and UUID-like segments collapsed to {id}
+         */
+        String endpoint() {
+            String path;
+            try {
+                path = URI.create(url).getPath();
+            } catch (IllegalArgumentException e) {
+                path = url;
+            }
+            if (path == null || path.isEmpty()) path = "/";
+            return method + " " + path.replaceAll("/(\\d+|[0-9a-fA-F-]{16,})(?=/|$)", "/{id}");
+        }
+
+        void writeHar(JsonWriter json) throws IOException {
+            double total = durationMillis();
+            // Time before the request hit the network (queueing/stalled) is "blocked"
+            double queued = requestTime > 0 ? Math.max(0, (requestTime - startSeconds) * 1000) : 0;
+            double firstStart = firstNonNegative(dnsStart, connectStart, sendStart);
+            double blocked = queued + Math.max(0, firstStart);
+            double dns = span(dnsStart, dnsEnd);
+            double connect = span(connectStart, connectEnd);
+            double send = span(sendStart, sendEnd);
+            double wait = sendEnd >= 0 && headersEnd >= 0 ? Math.max(0, headersEnd - sendEnd) : total;
+            double receive = headersEnd >= 0 ? Math.max(0, total - queued - headersEnd) : 0;
+            if (headersEnd < 0) blocked = 0;
+
+            json.beginObject();
+            json.name("startedDateTime").value(Instant.ofEpochMilli(wallMillis).toString());
+            json.name("time").value(round(total));
+            json.name("request").beginObject()
+                    .name("method").value(method)
+                    .name("url").value(url)
+                    .name("httpVersion").value(protocol)
+                    .name("cookies").beginArray().endArray()
+                    .name("headers").beginArray().endArray()
+                    .name("queryString").beginArray().endArray()
+                    .name("headersSize").value(-1)
+                    .name("bodySize").value(-1)
+                    .endObject();
+            json.name("response").beginObject()
+                    .name("status").value(status)
+                    .name("statusText").value(statusText)
+                    .name("httpVersion").value(protocol)
+                    .name("cookies").beginArray().endArray()
+                    .name("headers").beginArray().endArray()
+                    .name("content").beginObject().name("size").value(bytes).name("mimeType").value(mimeType).endObject()
+                    .name("redirectURL").value("")
+                    .name("headersSize").value(-1)
+                    .name("bodySize").value(bytes);
+            if (error != null) json.name("_error").value(error);
+            json.endObject();
+            json.name("cache").beginObject().endObject();
+            json.name("timings").beginObject()
+                    .name("blocked").value(round(blocked))
+                    .name("dns").value(dns >= 0 ? round(dns) : -1)
+                    .name("connect").value(connect >= 0 ? round(connect) : -1)
+                    .name("ssl").value(span(sslStart, sslEnd) >= 0 ? round(span(sslStart, sslEnd)) : -1)
+                    .name("send").value(Math.max(0, round(send)))
+                    .name("wait").value(round(wait))
+                    .name("receive").value(round(receive))
+                    .endObject();
+            json.name("_resourceType").value(type);
+            json.endObject();
+        }
+
+        private static double span(double start, double end) {
+            return start >= 0 && end >= 0 ? end - start : -1;
+        }
+
+        private static double firstNonNegative(double... values) {
+            for (double value : values) {
+                if (value >= 0) return value;
+            }
+            return 0;
+        }
+
+        private static double round(double millis) {
+            return Math.round(millis * 1000) / 1000.0;
+        }
+    }
+}
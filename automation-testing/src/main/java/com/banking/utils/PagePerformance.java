@@ -0,0 +1,322 @@
+package com.banking.utils;
+
+import io.appium.java_client.AppiumDriver;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Page Performance - Navigation Timing, paint, LCP, CLS and INP-style metrics
+ * Collected with one async script per page load, checked against per-page
+ * budgets (perf.budget.[page.]metric, ms; cls unitless), appended to a
+ * history file per build and summarised as a trend report after the suite
+ */
+public class PagePerformance {
+    public static final List<String> METRICS = List.of("ttfb", "fcp", "lcp", "cls", "inp", "dcl", "load");
+
+    private static final String HEADER = "build,timestamp,page," + String.join(",", METRICS);
+    private static final String DEFAULT_HISTORY_FILE = System.getProperty("user.home")
+            + "/.cache/banking-automation/page-metrics.csv";
+    private static final String BUILD_ID = buildId();
+
+    private static final String TRANSITION_MARK = "banking-transition";
+
+    /**
+     * Hard loads report Navigation Timing; after markTransition (a client-side
+     * route change) only entries since the mark count and "load" is the time
+     * from the mark until the route settled
+     */
+    private static final String COLLECT_SCRIPT =
+            "var done = arguments[arguments.length - 1], settle = arguments[0], markName = arguments[1];"
+            + "var mark = performance.getEntriesByName(markName).pop(), since = mark ? mark.startTime : 0;"
+            + "var lcp = 0, cls = 0, inp = 0, observers = [];"
+            + "function watch(type, onEntry, options) {"
+            + "  try {"
+            + "    var po = new PerformanceObserver(function (list) { list.getEntries().forEach(onEntry); });"
+            + "    options = options || {}; options.type = type; options.buffered = true;"
+            + "    po.observe(options); observers.push([po, onEntry]);"
+            + "  } catch (e) {}"
+            + "}"
+            + "watch('largest-contentful-paint', function (e) {"
+            + "  if (e.startTime >= since) lcp = Math.max(lcp, (e.renderTime || e.loadTime || e.startTime) - since); });"
+            + "watch('layout-shift', function (e) { if (!e.hadRecentInput && e.startTime >= since) cls += e.value; });"
+            + "watch('event', function (e) { if (e.startTime >= since) inp = Math.max(inp, e.duration); }, {durationThreshold: 16});"
+            + "function finish(settledAt) {"
+            + "  observers.forEach(function (o) { o[0].takeRecords().forEach(o[1]); o[0].disconnect(); });"
+            + "  var nav = performance.getEntriesByType('navigation')[0] || {}, fcp = 0;"
+            + "  performance.getEntriesByType('paint').forEach(function (p) {"
+            + "    if (p.name === 'first-contentful-paint') fcp = p.startTime;"
+            + "  });"
+            + "  performance.clearMarks(markName);"
+            + "  var result = {path: location.pathname, key: performance.timeOrigin + ':' + since, lcp: lcp, cls: cls, inp: inp};"
+            + "  if (mark) { result.ttfb = 0; result.fcp = 0; result.dcl = 0; result.load = settledAt - since; }"
+            + "  else { result.ttfb = nav.responseStart || 0; result.fcp = fcp;"
+            + "    result.dcl = nav.domContentLoadedEventEnd || 0; result.load = nav.loadEventEnd || 0; }"
+            + "  done(result);"
+            + "}"
+            + "function settled() { var at = performance.now(); setTimeout(function () { finish(at); }, settle); }"
+            + "if (document.readyState === 'complete') settled();"
+            + "else window.addEventListener('load', settled);";
+
+    private static final ThreadLocal<List<String>> scenarioPages = ThreadLocal.withInitial(ArrayList::new);
+    private static final ThreadLocal<List<String>> scenarioViolations = ThreadLocal.withInitial(ArrayList::new);
+    private static final ThreadLocal<String> lastCapture = new ThreadLocal<>();
+
+    public static boolean isEnabled() {
+        return ConfigReader.getBoolean("perf.capture.enabled", false);
+    }
+
+    public static void startScenario() {
+        scenarioPages.remove();
+        scenarioViolations.remove();
+        lastCapture.remove();
+    }
+
+    /**
+     * Mark the start of a client-side page transition; the next capture
+     * measures from here instead of from the document load
+     */
+    public static void markTransition(WebDriver driver) {
+        if (!(driver instanceof JavascriptExecutor) || driver instanceof AppiumDriver) return;
+        try {
+            ((JavascriptExecutor) driver).executeScript("performance.mark(arguments[0]);", TRANSITION_MARK);
+        } catch (WebDriverException e) {
+            System.err.println("Page transition mark failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Collect metrics for the document (or transition) currently loaded, once each;
+     * record them and check budgets. The page name is the URL path
+     * ("/transfer" -> "transfer", "/" -> "home")
+     * @return metrics by name, or null when nothing was captured
+     */
+    public static Map<String, Double> capture(WebDriver driver) {
+        if (!(driver instanceof JavascriptExecutor) || driver instanceof AppiumDriver) return null;
+        Map<?, ?> raw;
+        long start = System.nanoTime();
+        try {
+            raw = (Map<?, ?>) ((JavascriptExecutor) driver).executeAsyncScript(COLLECT_SCRIPT,
+                    ConfigReader.getInt("perf.settle.ms", 100), TRANSITION_MARK);
+        } catch (WebDriverException e) {
+            System.err.println("Page performance capture failed: " + e.getMessage());
+            return null;
+        } finally {
+            RunMetrics.recordNanos("perf.capture", System.nanoTime() - start);
+        }
+
+        String key = String.valueOf(raw.get("key"));
+        if (key.equals(lastCapture.get())) return null;
+        lastCapture.set(key);
+
+        String page = pageName(String.valueOf(raw.get("path")));
+        Map<String, Double> metrics = new LinkedHashMap<>();
+        for (String metric : METRICS) {
+            metrics.put(metric, number(raw.get(metric)));
+        }
+        append(page, metrics);
+        scenarioPages.get().add(page + " " + format(metrics));
+
+        for (String metric : METRICS) {
+            double budget = budget(page, metric);
+            double value = metrics.get(metric);
+            if (budget > 0 && value > budget) {
+                scenarioViolations.get().add(String.format(Locale.ROOT, "%s %s=%s exceeds budget %s",
+                        page, metric, formatValue(metric, value), formatValue(metric, budget)));
+                RunMetrics.increment("perf.budget.violations");
+            }
+        }
+        return metrics;
+    }
+
+    /**
+     * @return budget violations of this thread's scenario (empty if none)
+     */
+    public static List<String> scenarioViolations() {
+        return List.copyOf(scenarioViolations.get());
+    }
+
+    /**
+     * @return pages captured in this scenario with their metrics, or null if none
+     */
+    public static String scenarioReport() {
+        List<String> pages = scenarioPages.get();
+        if (pages.isEmpty()) return null;
+        StringBuilder sb = new StringBuilder("Page performance (build " + BUILD_ID + "):\n");
+        pages.forEach(line -> sb.append("  ").append(line).append('\n'));
+        scenarioViolations.get().forEach(line -> sb.append("  BUDGET ").append(line).append('\n'));
+        return sb.toString().trim();
+    }
+
+    // ========== Budgets ==========
+
+    /**
+     * @return the budget, or -1 when none is set
+     * @throws IllegalArgumentException naming the key when its value is not a number
+     */
+    private static double budget(String page, String metric) {
+        String key = "perf.budget." + page + "." + metric;
+        String value = ConfigReader.get(key);
+        if (value == null) {
+            key = "perf.budget." + metric;
+            value = ConfigReader.get(key);
+        }
+        if (value == null || value.isBlank()) return -1;
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid performance budget " + key + "=" + value
+                    + ": expected a number (" + (metric.equals("cls") ? "unitless" : "ms") + ")");
+        }
+    }
+
+    // ========== History + Trend ==========
+
+    private static Path historyFile() {
+        return Paths.get(ConfigReader.get("perf.history.file", DEFAULT_HISTORY_FILE));
+    }
+
+    private static synchronized void append(String page, Map<String, Double> metrics) {
+        Path file = historyFile();
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            boolean fresh = !Files.exists(file);
+            try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                if (fresh) out.write(HEADER + "\n");
+                StringBuilder line = new StringBuilder(BUILD_ID).append(',')
+                        .append(System.currentTimeMillis()).append(',').append(page);
+                for (String metric : METRICS) {
+                    line.append(',').append(String.format(Locale.ROOT, "%.4f", metrics.get(metric)));
+                }
+                out.write(line + "\n");
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to store page metrics in " + file + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Median of each metric per page for the last perf.trend.builds builds,
+     * with the change of this build against the previous one. Written to
+     * target/perf/perf-trend.md and printed
+     */
+    public static synchronized void writeTrendReport() {
+        Path file = historyFile();
+        if (!Files.exists(file)) return;
+        // page -> build (in order of first appearance) -> metric -> samples
+        Map<String, Map<String, Map<String, List<Double>>>> history = new TreeMap<>();
+        try {
+            List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+            for (String line : lines.subList(1, lines.size())) {
+                String[] cols = line.split(",");
+                if (cols.length < 3 + METRICS.size()) continue;
+                Map<String, List<Double>> build = history
+                        .computeIfAbsent(cols[2], k -> new LinkedHashMap<>())
+                        .computeIfAbsent(cols[0], k -> new LinkedHashMap<>());
+                for (int i = 0; i < METRICS.size(); i++) {
+                    build.computeIfAbsent(METRICS.get(i), k -> new ArrayList<>()).add(Double.parseDouble(cols[3 + i]));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Cannot build performance trend from " + file + ": " + e.getMessage());
+            return;
+        }
+        if (history.values().stream().noneMatch(builds -> builds.containsKey(BUILD_ID))) return;
+
+        int keep = ConfigReader.getInt("perf.trend.builds", 10);
+        StringBuilder report = new StringBuilder("# Page performance trend\n\nCurrent build: ")
+                .append(BUILD_ID).append(" (medians; ms, cls unitless)\n");
+        history.forEach((page, builds) -> {
+            if (!builds.containsKey(BUILD_ID)) return;
+            List<String> ids = new ArrayList<>(builds.keySet());
+            ids = ids.subList(Math.max(0, ids.size() - keep), ids.size());
+            report.append("\n## ").append(page).append("\n\n| build | ").append(String.join(" | ", METRICS))
+                    .append(" |\n|---|").append("---|".repeat(METRICS.size())).append('\n');
+            for (String id : ids) {
+                report.append("| ").append(id);
+                for (String metric : METRICS) {
+                    report.append(" | ").append(formatValue(metric, median(builds.get(id).get(metric))));
+                }
+                report.append(" |\n");
+            }
+            int current = ids.indexOf(BUILD_ID);
+            if (current > 0) {
+                Map<String, List<Double>> now = builds.get(BUILD_ID);
+                Map<String, List<Double>> before = builds.get(ids.get(current - 1));
+                report.append("| change");
+                for (String metric : METRICS) {
+                    double previous = median(before.get(metric));
+                    double delta = median(now.get(metric)) - previous;
+                    report.append(" | ").append(previous > 0
+                            ? String.format(Locale.ROOT, "%+.0f%%", delta * 100 / previous) : "n/a");
+                }
+                report.append(" |\n");
+            }
+        });
+
+        Path out = Paths.get("target", "perf", "perf-trend.md");
+        try {
+            Files.createDirectories(out.getParent());
+            Files.writeString(out, report);
+            System.out.println(report);
+        } catch (IOException e) {
+            System.err.println("Failed to write " + out + ": " + e.getMessage());
+        }
+    }
+
+    // ========== Helpers ==========
+
+    private static String buildId() {
+        String id = ConfigReader.get("build.id");
+        if (id == null) id = System.getenv("BUILD_NUMBER");
+        if (id == null) id = System.getenv("GITHUB_RUN_NUMBER");
+        if (id == null) id = "local-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        return id.replace(",", "_");
+    }
+
+    private static String pageName(String path) {
+        String trimmed = path.replaceAll("^/+|/+$", "");
+        return trimmed.isEmpty() ? "home" : trimmed.replaceAll("[^A-Za-z0-9]+", "-").toLowerCase();
+    }
+
+    private static double number(Object value) {
+        return value instanceof Number ? ((Number) value).doubleValue() : 0;
+    }
+
+    private static double median(List<Double> values) {
+        if (values == null || values.isEmpty()) return 0;
+        double[] sorted = values.stream().mapToDouble(Double::doubleValue).toArray();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private static String format(Map<String, Double> metrics) {
+        StringBuilder sb = new StringBuilder();
+        metrics.forEach((metric, value) -> sb.append(sb.length() > 0 ? " " : "")
+                .append(metric).append('=').append(formatValue(metric, value)));
+        return sb.toString();
+    }
+
+    private static String formatValue(String metric, double value) {
+        return "cls".equals(metric) ? String.format(Locale.ROOT, "%.3f", value)
+                : String.format(Locale.ROOT, "%.0f", value);
+    }
+}
@@ -0,0 +1,208 @@
+package com.banking.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.InputSource;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Page Source Snapshot - Appium page source parsed once into an indexed tree
+ * Answers read-only queries (text, visibility, counts, XPath) locally instead
+ * of one UiAutomator2/XCUITest round trip per lookup. Works on recorded
+ * page-source XML as well as a live driver
+ */
+public class PageSourceSnapshot {
+    private static final Set<String> SUPPORTED_STRATEGIES = Set.of("id", "accessibilityId", "className", "xpath");
+    private static final List<String> TEXT_ATTRIBUTES = List.of("text", "content-desc", "value", "label", "name");
+    private static final Pattern LOCATOR = Pattern.compile("^(?:Appium)?By\\.(\\w+): (.*)$", Pattern.DOTALL);
+
+    private final Document document;
+    private final List<SnapshotNode> nodes = new ArrayList<>();
+    private final Map<Node, SnapshotNode> byDomNode = new HashMap<>();
+    private final Map<String, List<SnapshotNode>> byId = new HashMap<>();
+    private final Map<String, List<SnapshotNode>> byAccessibilityId = new HashMap<>();
+    private final Map<String, List<SnapshotNode>> byText = new HashMap<>();
+    private final Map<String, List<SnapshotNode>> byClassName = new HashMap<>();
+
+    private PageSourceSnapshot(Document document) {
+        this.document = document;
+        index(document.getDocumentElement());
+    }
+
+    public static PageSourceSnapshot capture(WebDriver driver) {
+        long start = System.nanoTime();
+        String source = driver.getPageSource();
+        PageSourceSnapshot snapshot = parse(source);
+        RunMetrics.recordNanos("mobile.snapshot.capture", System.nanoTime() - start);
+        return snapshot;
+    }
+
+    public static PageSourceSnapshot parse(String xml) {
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+            factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+            factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
+            DocumentBuilder builder = factory.newDocumentBuilder();
+            return new PageSourceSnapshot(builder.parse(new InputSource(new StringReader(xml))));
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to parse page source: " + e.getMessage(), e);
+        }
+    }
+
+    // ========== Queries ==========
+
+    /**
+     * Whether findAll can answer this locator (id, accessibility id, class name, XPath)
+     */
+    public static boolean supports(By locator) {
+        Matcher matcher = LOCATOR.matcher(String.valueOf(locator));
+        return matcher.matches() && SUPPORTED_STRATEGIES.contains(matcher.group(1));
+    }
+
+    /**
+     * @return matching nodes in document order, or null when the locator
+     * strategy cannot be answered from the snapshot
+     */
+    public List<SnapshotNode> findAll(By locator) {
+        Matcher matcher = LOCATOR.matcher(String.valueOf(locator));
+        if (!matcher.matches()) return null;
+        String value = matcher.group(2);
+        switch (matcher.group(1)) {
+            case "id":
+                return lookup(byId, value);
+            case "accessibilityId":
+                return lookup(byAccessibilityId, value);
+            case "className":
+                return lookup(byClassName, value);
+            case "xpath":
+                return findByXPath(value);
+            default:
+                return null;
+        }
+    }
+
+    public List<SnapshotNode> findByText(String text) {
+        return lookup(byText, text);
+    }
+
+    public List<SnapshotNode> findByXPath(String xpath) {
+        try {
+            NodeList matches = (NodeList) XPathFactory.newInstance().newXPath()
+                    .evaluate(xpath, document, XPathConstants.NODESET);
+            List<SnapshotNode> result = new ArrayList<>(matches.getLength());
+            for (int i = 0; i < matches.getLength(); i++) {
+                SnapshotNode node = byDomNode.get(matches.item(i));
+                if (node != null) result.add(node);
+            }
+            return Collections.unmodifiableList(result);
+        } catch (XPathExpressionException e) {
+            throw new IllegalArgumentException("Invalid XPath '" + xpath + "': " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Whether any node's text or accessibility text (Android text /
+     * content-desc, iOS value / label / name) contains the text, as the
+     * device path's page-source contains() would find it
+     */
+    public boolean containsText(String text) {
+        for (SnapshotNode node : nodes) {
+            for (String attribute : TEXT_ATTRIBUTES) {
+                String value = node.attributes().get(attribute);
+                if (value != null && value.contains(text)) return true;
+            }
+        }
+        return false;
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    // ========== Indexing ==========
+
+    private void index(Element element) {
+        Map<String, String> attributes = new LinkedHashMap<>();
+        NamedNodeMap domAttributes = element.getAttributes();
+        for (int i = 0; i < domAttributes.getLength(); i++) {
+            Node attribute = domAttributes.item(i);
+            attributes.put(attribute.getNodeName(), attribute.getNodeValue());
+        }
+        String className = attributes.getOrDefault("class", element.getTagName());
+        SnapshotNode node = new SnapshotNode(className, Collections.unmodifiableMap(attributes));
+        nodes.add(node);
+        byDomNode.put(element, node);
+
+        // Android: resource-id / content-desc; iOS: name doubles as id and accessibility id
+        put(byId, attributes.get("resource-id"), node);
+        put(byId, attributes.get("name"), node);
+        put(byAccessibilityId, attributes.get("content-desc"), node);
+        put(byAccessibilityId, attributes.get("name"), node);
+        put(byText, node.text(), node);
+        put(byClassName, className, node);
+        if (!className.equals(element.getTagName())) put(byClassName, element.getTagName(), node);
+
+        NodeList children = element.getChildNodes();
+        for (int i = 0; i < children.getLength(); i++) {
+            if (children.item(i) instanceof Element) index((Element) children.item(i));
+        }
+    }
+
+    private static void put(Map<String, List<SnapshotNode>> index, String key, SnapshotNode node) {
+        if (key == null || key.isEmpty()) return;
+        List<SnapshotNode> bucket = index.computeIfAbsent(key, k -> new ArrayList<>());
+        // Same node may be indexed twice under one key (iOS name); keep it once
+        if (bucket.isEmpty() || bucket.get(bucket.size() - 1) != node) bucket.add(node);
+    }
+
+    private static List<SnapshotNode> lookup(Map<String, List<SnapshotNode>> index, String key) {
+        List<SnapshotNode> matches = index.get(key);
+        return matches != null ? Collections.unmodifiableList(matches) : List.of();
+    }
+
+    /**
+     * One element of the captured hierarchy with its raw attributes
+     */
+    public record SnapshotNode(String className, Map<String, String> attributes) {
+
+        /**
+         * Android text, or iOS value/label
+         */
+        public String text() {
+            String text = attributes.get("text");
+            if (text == null || text.isEmpty()) text = attributes.get("value");
+            if (text == null || text.isEmpty()) text = attributes.get("label");
+            return text;
+        }
+
+        /**
+         * Android displayed, iOS visible; elements without either are treated as shown
+         */
+        public boolean isDisplayed() {
+            String shown = attributes.getOrDefault("displayed", attributes.get("visible"));
+            return shown == null || Boolean.parseBoolean(shown);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.banking.utils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Run Metrics - Process-wide counters, timers and gauges for framework internals
+ * Thread-safe; printed once at the end of the suite by TestListener
+ */
+public class RunMetrics {
+    private static final Map<String, LongAdder> counters = new ConcurrentSkipListMap<>();
+    private static final Map<String, Timer> timers = new ConcurrentSkipListMap<>();
+    private static final Map<String, Supplier<String>> gauges = new ConcurrentSkipListMap<>();
+
+    // ========== Counters ==========
+
+    public static void increment(String name) {
+        add(name, 1);
+    }
+
+    public static void add(String name, long delta) {
+        counters.computeIfAbsent(name, k -> new LongAdder()).add(delta);
+    }
+
+    public static long getCount(String name) {
+        LongAdder adder = counters.get(name);
+        return adder != null ? adder.sum() : 0;
+    }
+
+    // ========== Timers ==========
+
+    public static void recordNanos(String name, long nanos) {
+        timers.computeIfAbsent(name, k -> new Timer()).record(nanos);
+    }
+
+    public static long getTimerCount(String name) {
+        Timer timer = timers.get(name);
+        return timer != null ? timer.count.sum() : 0;
+    }
+
+    public static double getTimerAverageMillis(String name) {
+        Timer timer = timers.get(name);
+        return timer != null ? timer.averageMillis() : 0;
+    }
+
+    // ========== Gauges ==========
+
+    /**
+     * Register a value that is computed when the summary is printed
+     * (ratios, pool sizes, anything derived from other state)
+     */
+    public static void registerGauge(String name, Supplier<String> value) {
+        gauges.put(name, value);
+    }
+
+    // ========== Reporting ==========
+
+    public static boolean isEmpty() {
+        return counters.isEmpty() && timers.isEmpty() && gauges.isEmpty();
+    }
+
+    public static void printSummary() {
+        if (isEmpty()) return;
+
+        System.out.println("========================================");
+        System.out.println("  FRAMEWORK METRICS");
+        System.out.println("========================================");
+        counters.forEach((name, value) ->
+                System.out.println("  " + name + " = " + value.sum()));
+        timers.forEach((name, timer) ->
+                System.out.println("  " + name + " : " + timer));
+        gauges.forEach((name, value) -> {
+            try {
+                System.out.println("  " + name + " = " + value.get());
+            } catch (Exception e) {
+                System.out.println("  " + name + " = n/a (" + e.getMessage() + ")");
+            }
+        });
+        System.out.println("========================================");
+    }
+
+    public static void reset() {
+        counters.clear();
+        timers.clear();
+    }
+
+    private static class Timer {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        double averageMillis() {
+            long n = count.sum();
+            return n > 0 ? totalNanos.sum() / (double) n / 1_000_000 : 0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("count=%d total=%.1fms avg=%.2fms max=%.2fms",
+                    count.sum(), totalNanos.sum() / 1_000_000.0, averageMillis(),
+                    maxNanos.get() / 1_000_000.0);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.banking.utils;
+
+import io.cucumber.testng.Pickle;
+import io.cucumber.testng.PickleWrapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Scenario Durations - Historical run time per scenario, persisted across runs
+ * Runners order scenarios longest first so parallel threads (and DeviceFarm
+ * devices) finish at about the same time
+ */
+public class ScenarioDurations {
+    private static final String DEFAULT_FILE = System.getProperty("user.home")
+            + "/.cache/banking-automation/scenario-durations.properties";
+    /** Smoothing for the moving average: weight of the newest run */
+    private static final double ALPHA = 0.3;
+
+    private static final Map<String, Double> averageMillis = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Long> scenarioStart = new ThreadLocal<>();
+
+    static {
+        load();
+        Runtime.getRuntime().addShutdownHook(new Thread(ScenarioDurations::save));
+    }
+
+    public static void startScenario() {
+        scenarioStart.set(System.nanoTime());
+    }
+
+    public static void finishScenario(URI featureUri, String scenarioName) {
+        Long start = scenarioStart.get();
+        if (start == null) return;
+        scenarioStart.remove();
+        double millis = (System.nanoTime() - start) / 1_000_000.0;
+        averageMillis.merge(key(featureUri, scenarioName), millis,
+                (previous, latest) -> previous + ALPHA * (latest - previous));
+    }
+
+    /**
+     * @return average duration in ms, or -1 for a scenario never run before
+     */
+    public static double estimateMillis(URI featureUri, String scenarioName) {
+        return averageMillis.getOrDefault(key(featureUri, scenarioName), -1.0);
+    }
+
+    /**
+     * Sort Cucumber data-provider rows longest first (longest-processing-time
+     * scheduling). Unknown scenarios count as the longest so they start early
+     */
+    public static Object[][] longestFirst(Object[][] scenarios) {
+        Object[][] ordered = scenarios.clone();
+        Arrays.sort(ordered, Comparator.comparingDouble((Object[] row) -> {
+            Pickle pickle = ((PickleWrapper) row[0]).getPickle();
+            double estimate = estimateMillis(pickle.getUri(), pickle.getName());
+            return estimate < 0 ? Double.MAX_VALUE : estimate;
+        }).reversed());
+        return ordered;
+    }
+
+    private static String key(URI featureUri, String scenarioName) {
+        String path = String.valueOf(featureUri);
+        return path.substring(path.lastIndexOf('/') + 1) + ":" + scenarioName;
+    }
+
+    // ========== Persistence ==========
+
+    private static Path durationsFile() {
+        return Paths.get(ConfigReader.get("scenario.durations.file", DEFAULT_FILE));
+    }
+
+    private static void load() {
+        Path file = durationsFile();
+        if (!Files.exists(file)) return;
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        } catch (IOException e) {
+            System.err.println("Ignoring unreadable scenario durations " + file + ": " + e.getMessage());
+            return;
+        }
+        for (String key : properties.stringPropertyNames()) {
+            try {
+                averageMillis.put(key, Double.parseDouble(properties.getProperty(key)));
+            } catch (NumberFormatException e) {
+                // Skip corrupt entry
+            }
+        }
+    }
+
+    static void save() {
+        if (averageMillis.isEmpty()) return;
+        Properties properties = new Properties();
+        averageMillis.forEach((key, millis) -> properties.setProperty(key, Long.toString(Math.round(millis))));
+        Path file = durationsFile();
+        try {
+            Files.createDirectories(file.getParent());
+            try (OutputStream out = Files.newOutputStream(file)) {
+                properties.store(out, "Average scenario duration (ms)");
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to save scenario durations " + file + ": " + e.getMessage());
+        }
+    }
+}
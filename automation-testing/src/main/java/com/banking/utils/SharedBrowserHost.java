@@ -0,0 +1,349 @@
+package com.banking.utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeOptions;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Shared Browser Host - One Chrome/Edge process hosting isolated browser contexts
+ * Every session attaches to the shared browser through debuggerAddress and
+ * works in its own CDP browser context (separate cookies, storage and cache),
+ * so memory grows with the number of contexts instead of browser processes.
+ * Enabled with browser.context.mode=true
+ */
+public class SharedBrowserHost {
+    private static final Map<String, SharedBrowserHost> hosts = new ConcurrentHashMap<>();
+
+    private final String browser;
+    private final Process process;
+    private final Path profileDir;
+    private final int port;
+    private final long startedAt = System.nanoTime();
+    private final AtomicInteger openContexts = new AtomicInteger();
+    private final LongAdder completedSessions = new LongAdder();
+    private final Map<WebDriver, String> contexts = new ConcurrentHashMap<>();
+
+    // RSS samples taken whenever a context opens or closes
+    private long rssSamples;
+    private double rssPerContextTotalKb;
+    private long peakRssKb;
+    private int peakContexts;
+
+    static {
+        RunMetrics.registerGauge("context.rss.per.context", () -> describe(h ->
+                h.rssSamples > 0 ? (long) (h.rssPerContextTotalKb / h.rssSamples / 1024) + " MB avg" : "n/a"));
+        RunMetrics.registerGauge("context.rss.peak", () -> describe(h ->
+                h.peakRssKb / 1024 + " MB with " + h.peakContexts + " context(s)"));
+        RunMetrics.registerGauge("context.throughput", () -> describe(h -> {
+            double minutes = (System.nanoTime() - h.startedAt) / 60e9;
+            double perMinute = minutes > 0 ? h.completedSessions.sum() / minutes : 0;
+            return String.format("%.1f scenarios/min (%.1f per context)",
+                    perMinute, perMinute / Math.max(1, h.peakContexts));
+        }));
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> hosts.values().forEach(SharedBrowserHost::stop)));
+    }
+
+    public static boolean isEnabled() {
+        return ConfigReader.getBoolean("browser.context.mode", false);
+    }
+
+    public static SharedBrowserHost forBrowser(String browser) {
+        return hosts.computeIfAbsent(browser.toLowerCase(), SharedBrowserHost::new);
+    }
+
+    private SharedBrowserHost(String browser) {
+        this.browser = browser;
+        Path binary = DriverBinaryResolver.browserPath(browser)
+                .orElseThrow(() -> new RuntimeException("Cannot locate " + browser
+                        + " binary for browser.context.mode; set browser.binary.path"));
+        try {
+            this.port = freePort();
+            this.profileDir = Files.createTempDirectory("shared-" + browser + "-");
+
+            List<String> command = new ArrayList<>(List.of(binary.toString(),
+                    "--remote-debugging-port=" + port,
+                    "--user-data-dir=" + profileDir,
+                    "--no-first-run",
+                    "--no-default-browser-check",
+                    "--disable-notifications",
+                    "--disable-popup-blocking",
+                    "--no-sandbox",
+                    "--disable-dev-shm-usage"));
+            if (ConfigReader.isHeadless()) {
+                command.add("--headless=new");
+                command.add("--window-size=1920,1080");
+            }
+            command.add("about:blank");
+
+            this.process = new ProcessBuilder(command)
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            waitForDebugger();
+            System.out.println("Shared " + browser + " host started on port " + port
+                    + " (pid " + process.pid() + ")");
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to start shared " + browser + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Host for a browser started elsewhere (tests); nothing to stop or measure
+     */
+    private SharedBrowserHost(String browser, int port) {
+        this.browser = browser;
+        this.port = port;
+        this.process = null;
+        this.profileDir = null;
+    }
+
+    /**
+     * Register a browser already listening on a debugging port; its sessions
+     * are handed over with adopt()
+     */
+    static SharedBrowserHost attach(String browser, int port) {
+        return hosts.computeIfAbsent(browser.toLowerCase(), name -> new SharedBrowserHost(name, port));
+    }
+
+    static void detach(String browser) {
+        SharedBrowserHost host = hosts.remove(browser.toLowerCase());
+        if (host != null) host.stop();
+    }
+
+    /**
+     * Attach a new driver session to the shared browser and switch it to a
+     * window living in a fresh, isolated browser context
+     */
+    public WebDriver openContext() {
+        String debuggerAddress = "127.0.0.1:" + port;
+        ChromiumDriver driver;
+        if (browser.equals("edge")) {
+            EdgeOptions options = new EdgeOptions();
+            options.setExperimentalOption("debuggerAddress", debuggerAddress);
+            driver = new EdgeDriver(options) {
+                @Override
+                public void quit() {
+                    closeContext(this);
+                    super.quit();
+                }
+            };
+        } else {
+            ChromeOptions options = new ChromeOptions();
+            options.setExperimentalOption("debuggerAddress", debuggerAddress);
+            driver = new ChromeDriver(options) {
+                @Override
+                public void quit() {
+                    closeContext(this);
+                    super.quit();
+                }
+            };
+        }
+
+        return adopt(driver);
+    }
+
+    /**
+     * Switch a driver attached to this browser to a fresh context and track it
+     */
+    WebDriver adopt(ChromiumDriver driver) {
+        contexts.put(driver, switchToNewContext(driver));
+
+        openContexts.incrementAndGet();
+        RunMetrics.increment("context.opened");
+        sampleRss();
+        return driver;
+    }
+
+    /**
+     * Whether the driver works in a context of a shared browser, i.e. other
+     * sessions' windows are visible to it and must not be touched.
+     * Contexts are tracked by the undecorated driver (CommandTracer)
+     */
+    public static boolean isContextSession(WebDriver driver) {
+        WebDriver real = CommandTracer.undecorate(driver);
+        return hosts.values().stream().anyMatch(host -> host.contexts.containsKey(real));
+    }
+
+    /**
+     * Move the driver to a fresh browser context and dispose its old one, so
+     * its windows, cookies, storage for every origin and cache are gone while
+     * the sessions in other contexts are left alone. An open DevTools session
+     * is moved to the new window and fast mode / network capture re-applied
+     */
+    public static void recycleContext(WebDriver driver) {
+        // A traced session is a decorator proxy, not a ChromiumDriver
+        WebDriver real = CommandTracer.undecorate(driver);
+        for (SharedBrowserHost host : hosts.values()) {
+            String old = host.contexts.get(real);
+            if (old == null) continue;
+            ChromiumDriver chromium = (ChromiumDriver) real;
+            host.contexts.put(chromium, host.switchToNewContext(chromium));
+            host.dispose(chromium, old);
+            // DevTools was attached to the old context's target; follow the switch
+            if (DevToolsHelper.reattach(chromium)) {
+                if (FastMode.isEnabled()) FastMode.apply(chromium);
+                if (NetworkRecorder.isEnabled()) NetworkRecorder.apply(chromium);
+            }
+            RunMetrics.increment("context.recycled");
+            return;
+        }
+        throw new IllegalArgumentException("Driver is not attached to a shared browser context");
+    }
+
+    /**
+     * Create a browser context with one window and switch the driver to it
+     * @return the new browserContextId
+     */
+    private String switchToNewContext(ChromiumDriver driver) {
+        Object contextId = driver.executeCdpCommand("Target.createBrowserContext",
+                Map.of("disposeOnDetach", false)).get("browserContextId");
+        Map<String, Object> target = new HashMap<>();
+        target.put("url", "about:blank");
+        target.put("browserContextId", contextId);
+        target.put("newWindow", true);
+        if (ConfigReader.isHeadless()) {
+            target.put("width", 1920);
+            target.put("height", 1080);
+        }
+        String targetId = (String) driver.executeCdpCommand("Target.createTarget", target).get("targetId");
+
+        // ChromeDriver uses the DevTools target id as the window handle
+        String handle = driver.getWindowHandles().stream()
+                .filter(h -> h.equals(targetId) || h.endsWith(targetId))
+                .findFirst()
+                .orElseThrow(() -> new RuntimeException("New context window " + targetId + " not visible to driver"));
+        driver.switchTo().window(handle);
+        return (String) contextId;
+    }
+
+    /**
+     * Count a finished scenario towards the throughput figure
+     */
+    public static void recordScenarioCompleted() {
+        hosts.values().forEach(h -> h.completedSessions.increment());
+    }
+
+    private void closeContext(ChromiumDriver driver) {
+        String contextId = contexts.remove(driver);
+        if (contextId == null) return;
+        sampleRss();
+        dispose(driver, contextId);
+        openContexts.decrementAndGet();
+    }
+
+    private void dispose(ChromiumDriver driver, String contextId) {
+        try {
+            driver.executeCdpCommand("Target.disposeBrowserContext", Map.of("browserContextId", contextId));
+        } catch (Exception e) {
+            System.err.println("Failed to dispose browser context " + contextId + ": " + e.getMessage());
+        }
+    }
+
+    // ========== Metrics ==========
+
+    private synchronized void sampleRss() {
+        int active = openContexts.get();
+        long rssKb = processTreeRssKb();
+        if (active <= 0 || rssKb <= 0) return;
+        rssSamples++;
+        rssPerContextTotalKb += rssKb / (double) active;
+        if (rssKb > peakRssKb) {
+            peakRssKb = rssKb;
+            peakContexts = active;
+        }
+    }
+
+    /**
+     * Resident memory of the browser and all its child processes (Linux /proc only)
+     */
+    private long processTreeRssKb() {
+        if (process == null) return 0;
+        long total = 0;
+        List<ProcessHandle> tree = new ArrayList<>();
+        tree.add(process.toHandle());
+        process.toHandle().descendants().forEach(tree::add);
+        for (ProcessHandle handle : tree) {
+            Path status = Paths.get("/proc", String.valueOf(handle.pid()), "status");
+            try (Stream<String> lines = Files.lines(status)) {
+                total += lines.filter(l -> l.startsWith("VmRSS:"))
+                        .mapToLong(l -> Long.parseLong(l.replaceAll("[^0-9]", "")))
+                        .sum();
+            } catch (IOException | RuntimeException e) {
+                // Process exited or /proc is not available (non-Linux)
+            }
+        }
+        return total;
+    }
+
+    private static String describe(Function<SharedBrowserHost, String> metric) {
+        if (hosts.isEmpty()) return "n/a";
+        StringBuilder sb = new StringBuilder();
+        hosts.forEach((name, host) -> sb.append(sb.length() > 0 ? ", " : "")
+                .append(name).append(": ").append(metric.apply(host)));
+        return sb.toString();
+    }
+
+    // ========== Process Lifecycle ==========
+
+    private void waitForDebugger() throws IOException {
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                HttpURLConnection connection = (HttpURLConnection)
+                        URI.create("http://127.0.0.1:" + port + "/json/version").toURL().openConnection();
+                connection.setConnectTimeout(500);
+                if (connection.getResponseCode() == 200) return;
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            if (!process.isAlive()) {
+                throw new IOException(browser + " exited with code " + process.exitValue());
+            }
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for " + browser);
+            }
+        }
+        throw new IOException(browser + " debugger did not start on port " + port);
+    }
+
+    private void stop() {
+        if (process == null) return;
+        process.toHandle().descendants().forEach(ProcessHandle::destroy);
+        process.destroy();
+        try (Stream<Path> files = Files.walk(profileDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        } catch (IOException e) {
+            // Temp profile is left for the OS to clean up
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -5,49 +5,76 @@ import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.FluentWait;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * Wait Helper - Explicit and Fluent waits for stable test execution
+ * With wait.engine=observer, element waits on browser sessions are resolved
+ * in-page by DomWaitEngine and fall back to WebDriverWait polling otherwise
+ * Polling waits back off exponentially from the locator's learned median
+ * wait time (WaitHistory) instead of a fixed 500ms interval
  */
 public class WaitHelper {
     private WebDriver driver;
     private WebDriverWait wait;
+    private Duration timeout;
+    private boolean observerEngine;
 
     public WaitHelper(WebDriver driver) {
-        this.driver = driver;
-        int timeout = ConfigReader.getInt("explicit.wait", 15);
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(timeout));
+        this(driver, (int) WaitPolicy.explicitTimeout().toSeconds());
     }
 
     public WaitHelper(WebDriver driver, int timeoutSeconds) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
+        this.timeout = Duration.ofSeconds(timeoutSeconds);
+        this.wait = new WebDriverWait(driver, timeout);
+        this.observerEngine = "observer".equalsIgnoreCase(ConfigReader.get("wait.engine", "polling"));
     }
 
     public WebElement waitForVisible(By locator) {
-        return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+        return timed(locator, () -> {
+            long start = System.nanoTime();
+            WebElement element = awaitInPage(locator, DomWaitEngine.VISIBLE, null);
+            if (element != null) return element;
+            return polling(locator, remaining(start)).until(ExpectedConditions.visibilityOfElementLocated(locator));
+        });
     }
 
     public WebElement waitForClickable(By locator) {
-        return wait.until(ExpectedConditions.elementToBeClickable(locator));
+        return timed(locator, () -> {
+            long start = System.nanoTime();
+            WebElement element = awaitInPage(locator, DomWaitEngine.CLICKABLE, null);
+            if (element != null) return element;
+            return polling(locator, remaining(start)).until(ExpectedConditions.elementToBeClickable(locator));
+        });
     }
 
     public WebElement waitForPresence(By locator) {
-        return wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+        return timed(locator, () -> {
+            long start = System.nanoTime();
+            WebElement element = awaitInPage(locator, DomWaitEngine.PRESENT, null);
+            if (element != null) return element;
+            return polling(locator, remaining(start)).until(ExpectedConditions.presenceOfElementLocated(locator));
+        });
     }
 
     public List<WebElement> waitForAllVisible(By locator) {
-        return wait.until(ExpectedConditions.visibilityOfAllElementsLocatedBy(locator));
+        return timed(locator, () -> polling(locator).until(ExpectedConditions.visibilityOfAllElementsLocatedBy(locator)));
     }
 
     public boolean waitForInvisible(By locator) {
-        return wait.until(ExpectedConditions.invisibilityOfElementLocated(locator));
+        return timed(locator, () -> polling(locator).until(ExpectedConditions.invisibilityOfElementLocated(locator)));
     }
 
     public boolean waitForTextPresent(By locator, String text) {
-        return wait.until(ExpectedConditions.textToBePresentInElementLocated(locator, text));
+        return timed(locator, () -> {
+            long start = System.nanoTime();
+            if (awaitInPage(locator, DomWaitEngine.TEXT, text) != null) return true;
+            return polling(locator, remaining(start)).until(ExpectedConditions.textToBePresentInElementLocated(locator, text));
+        });
     }
 
     public void waitForPageLoad() {
@@ -55,13 +82,18 @@ public class WaitHelper {
                 .executeScript("return document.readyState").equals("complete"));
     }
 
+    /**
+     * @param polling first polling interval in ms when the locator has no history
+     */
     public WebElement fluentWait(By locator, int timeout, int polling) {
-        FluentWait<WebDriver> fluentWait = new FluentWait<>(driver)
+        Duration initial = WaitHistory.initialInterval(locator, Duration.ofMillis(polling));
+        FluentWait<WebDriver> fluentWait = new FluentWait<>(driver, Clock.systemDefaultZone(),
+                WaitHistory.backoffSleeper(initial))
                 .withTimeout(Duration.ofSeconds(timeout))
-                .pollingEvery(Duration.ofMillis(polling))
+                .pollingEvery(initial)
                 .ignoring(NoSuchElementException.class)
                 .ignoring(StaleElementReferenceException.class);
-        return fluentWait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+        return timed(locator, () -> fluentWait.until(ExpectedConditions.visibilityOfElementLocated(locator)));
     }
 
     public Alert waitForAlert() {
@@ -75,4 +107,59 @@ public class WaitHelper {
     public void waitForUrl(String urlPart) {
         wait.until(ExpectedConditions.urlContains(urlPart));
     }
+
+    public void waitForUrlChange(String fromUrl) {
+        wait.until(ExpectedConditions.not(ExpectedConditions.urlToBe(fromUrl)));
+    }
+
+    /**
+     * Element wait with an adaptive polling schedule for this locator
+     */
+    private WebDriverWait polling(By locator) {
+        return polling(locator, timeout);
+    }
+
+    private WebDriverWait polling(By locator, Duration timeout) {
+        Duration initial = WaitHistory.initialInterval(locator,
+                Duration.ofMillis(ConfigReader.getInt("wait.polling.initial.ms", 100)));
+        return new WebDriverWait(driver, timeout, initial, Clock.systemDefaultZone(),
+                WaitHistory.backoffSleeper(initial));
+    }
+
+    /**
+     * What is left of the timeout since start; a polling wait that takes over
+     * from a failed in-page wait gets only this, so the two together stay
+     * within one timeout (zero still checks the condition once)
+     */
+    private Duration remaining(long start) {
+        long left = timeout.toNanos() - (System.nanoTime() - start);
+        return Duration.ofNanos(Math.max(0, left));
+    }
+
+    /**
+     * Run a wait and charge its duration to the locator (WaitPolicy accounting);
+     * successful waits also feed the locator's polling history
+     */
+    private <T> T timed(By locator, Supplier<T> waitCall) {
+        long start = System.nanoTime();
+        boolean succeeded = false;
+        try {
+            T result = waitCall.get();
+            succeeded = true;
+            return result;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            WaitPolicy.recordWait(locator, elapsed);
+            if (succeeded) WaitHistory.record(locator, elapsed);
+        }
+    }
+
+    /**
+     * @return element from the in-page observer wait, or null when the
+     * observer engine is off or cannot serve this driver/locator
+     */
+    private WebElement awaitInPage(By locator, String condition, String text) {
+        if (!observerEngine || !DomWaitEngine.supports(driver, locator)) return null;
+        return DomWaitEngine.await(driver, locator, condition, text, timeout);
+    }
 }
@@ -0,0 +1,147 @@
+package com.banking.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.support.ui.Sleeper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Wait History - Learned per-locator wait durations for adaptive polling
+ * Keeps the most recent successful wait times per locator, persisted across
+ * runs, and turns them into an exponential-backoff polling schedule that
+ * starts near the observed median
+ */
+public class WaitHistory {
+    private static final int MAX_SAMPLES = 32;
+    private static final long MIN_INTERVAL_MS = 10;
+    private static final String DEFAULT_FILE = System.getProperty("user.home")
+            + "/.cache/banking-automation/wait-history.properties";
+
+    private static final Map<String, Samples> history = new ConcurrentHashMap<>();
+
+    static {
+        load();
+        Runtime.getRuntime().addShutdownHook(new Thread(WaitHistory::save));
+    }
+
+    /**
+     * First polling interval for this locator: its median wait time, or the
+     * fallback when it has never been seen
+     */
+    public static Duration initialInterval(By locator, Duration fallback) {
+        Samples samples = history.get(String.valueOf(locator));
+        long median = samples != null ? samples.median() : -1;
+        if (median < 0) return fallback;
+        return Duration.ofMillis(Math.max(MIN_INTERVAL_MS, Math.min(median, maxInterval().toMillis())));
+    }
+
+    /**
+     * Sleeper that ignores the wait's fixed interval: first sleep is initial,
+     * each following sleep doubles up to wait.polling.max.ms
+     */
+    public static Sleeper backoffSleeper(Duration initial) {
+        long[] next = {initial.toMillis()};
+        long cap = maxInterval().toMillis();
+        return ignored -> {
+            long sleepFor = next[0];
+            next[0] = Math.min(cap, next[0] * 2);
+            RunMetrics.increment("wait.poll.sleeps");
+            Sleeper.SYSTEM_SLEEPER.sleep(Duration.ofMillis(sleepFor));
+        };
+    }
+
+    public static void record(By locator, long nanos) {
+        history.computeIfAbsent(String.valueOf(locator), k -> new Samples())
+                .add(nanos / 1_000_000);
+    }
+
+    private static Duration maxInterval() {
+        return Duration.ofMillis(ConfigReader.getInt("wait.polling.max.ms", 2000));
+    }
+
+    // ========== Persistence ==========
+
+    private static Path historyFile() {
+        return Paths.get(ConfigReader.get("wait.history.file", DEFAULT_FILE));
+    }
+
+    private static void load() {
+        Path file = historyFile();
+        if (!Files.exists(file)) return;
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        } catch (IOException e) {
+            System.err.println("Ignoring unreadable wait history " + file + ": " + e.getMessage());
+            return;
+        }
+        for (String key : properties.stringPropertyNames()) {
+            Samples samples = new Samples();
+            for (String value : properties.getProperty(key).split(",")) {
+                try {
+                    samples.add(Long.parseLong(value.trim()));
+                } catch (NumberFormatException e) {
+                    // Skip corrupt sample
+                }
+            }
+            history.put(key, samples);
+        }
+    }
+
+    static void save() {
+        if (history.isEmpty()) return;
+        Properties properties = new Properties();
+        history.forEach((key, samples) -> properties.setProperty(key, samples.serialize()));
+        Path file = historyFile();
+        try {
+            Files.createDirectories(file.getParent());
+            try (OutputStream out = Files.newOutputStream(file)) {
+                properties.store(out, "Learned wait durations (ms) per locator");
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to save wait history " + file + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Ring buffer of the most recent wait durations in milliseconds
+     */
+    private static class Samples {
+        private final long[] values = new long[MAX_SAMPLES];
+        private int size;
+        private int next;
+
+        synchronized void add(long millis) {
+            values[next] = millis;
+            next = (next + 1) % MAX_SAMPLES;
+            size = Math.min(size + 1, MAX_SAMPLES);
+        }
+
+        synchronized long median() {
+            if (size == 0) return -1;
+            long[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            return sorted[size / 2];
+        }
+
+        synchronized String serialize() {
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < size; i++) {
+                // Oldest first, so reloading preserves ring order
+                int index = (next - size + i + MAX_SAMPLES) % MAX_SAMPLES;
+                sb.append(i > 0 ? "," : "").append(values[index]);
+            }
+            return sb.toString();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.banking.utils;
+
+import io.appium.java_client.AppiumDriver;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Wait Policy - Single owner of driver and wait timeouts
+ * Implicit wait is always zero so explicit waits never stack on top of it
+ * and presence checks fail fast. Time spent waiting is tracked per scenario
+ * and per locator.
+ */
+public class WaitPolicy {
+    private static final Map<String, LongAdder[]> locatorTotals = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Map<String, long[]>> scenarioWaits =
+            ThreadLocal.withInitial(LinkedHashMap::new);
+
+    static {
+        RunMetrics.registerGauge("wait.top.locators", () -> topLocators(5));
+    }
+
+    // ========== Timeouts ==========
+
+    public static Duration explicitTimeout() {
+        return Duration.ofSeconds(ConfigReader.getInt("explicit.wait", 15));
+    }
+
+    /**
+     * Upper bound for BasePage.isDisplayed on elements that may still be rendering
+     */
+    public static Duration presenceTimeout() {
+        return Duration.ofSeconds(ConfigReader.getInt("wait.presence.timeout", 3));
+    }
+
+    /**
+     * Apply the policy to a new session: implicit wait 0, plus page load and
+     * script timeouts for browser sessions
+     */
+    public static void applyTo(WebDriver driver) {
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        if (!(driver instanceof AppiumDriver)) {
+            driver.manage().timeouts().pageLoadTimeout(
+                    Duration.ofSeconds(ConfigReader.getInt("page.load.timeout", 30)));
+            // Upper bound for in-page observer waits (DomWaitEngine)
+            driver.manage().timeouts().scriptTimeout(
+                    Duration.ofSeconds(ConfigReader.getInt("script.timeout", 60)));
+        }
+    }
+
+    // ========== Accounting ==========
+
+    public static void startScenario() {
+        scenarioWaits.get().clear();
+    }
+
+    public static void recordWait(By locator, long nanos) {
+        String key = String.valueOf(locator);
+        long[] scenario = scenarioWaits.get().computeIfAbsent(key, k -> new long[2]);
+        scenario[0]++;
+        scenario[1] += nanos;
+
+        LongAdder[] totals = locatorTotals.computeIfAbsent(key,
+                k -> new LongAdder[]{new LongAdder(), new LongAdder()});
+        totals[0].increment();
+        totals[1].add(nanos);
+        RunMetrics.recordNanos("wait.total", nanos);
+    }
+
+    /**
+     * @return wait time for the current scenario, slowest locators first
+     * (null when nothing waited)
+     */
+    public static String scenarioReport() {
+        Map<String, long[]> waits = scenarioWaits.get();
+        if (waits.isEmpty()) return null;
+
+        List<Map.Entry<String, long[]>> entries = new ArrayList<>(waits.entrySet());
+        entries.sort((a, b) -> Long.compare(b.getValue()[1], a.getValue()[1]));
+        long total = entries.stream().mapToLong(e -> e.getValue()[1]).sum();
+
+        StringBuilder sb = new StringBuilder(String.format("Wait time: %d ms total", total / 1_000_000));
+        for (Map.Entry<String, long[]> entry : entries) {
+            sb.append(String.format("%n  %6d ms  x%-3d %s", entry.getValue()[1] / 1_000_000,
+                    entry.getValue()[0], entry.getKey()));
+        }
+        return sb.toString();
+    }
+
+    private static String topLocators(int limit) {
+        if (locatorTotals.isEmpty()) return "n/a";
+        List<Map.Entry<String, LongAdder[]>> entries = new ArrayList<>(locatorTotals.entrySet());
+        entries.sort((a, b) -> Long.compare(b.getValue()[1].sum(), a.getValue()[1].sum()));
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, LongAdder[]> entry : entries.subList(0, Math.min(limit, entries.size()))) {
+            sb.append(String.format("%n    %6d ms  x%-4d %s", entry.getValue()[1].sum() / 1_000_000,
+                    entry.getValue()[0].sum(), entry.getKey()));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,34 @@
+package com.banking.runners;
+
+import com.banking.utils.ApiTableExecutor;
+import com.banking.utils.ConfigReader;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.Paths;
+import java.util.stream.Collectors;
+
+/**
+ * API Data Test Runner - Runs the table-driven API checks in api.csv.file
+ * (default testdata/api_test_data.csv); one CSV row per check, no Gherkin.
+ * Not in the default testng.xml suite: rows that may change data are skipped
+ * unless api.csv.side.effects=true, so only opt in against a disposable backend
+ * Usage: mvn test -Dtest=ApiDataTestRunner [-Dapi.csv.file=...] [-Dapi.csv.parallelism=32]
+ *        [-Dapi.csv.side.effects=true]
+ */
+public class ApiDataTestRunner {
+
+    @Test(description = "Table-driven API checks from CSV")
+    public void apiDataChecks() throws Exception {
+        ApiTableExecutor.Report report = ApiTableExecutor.run(Paths.get(
+                ConfigReader.get("api.csv.file", "src/test/resources/testdata/api_test_data.csv")));
+        System.out.println(report.format());
+
+        Assert.assertFalse(report.results().isEmpty(), "No rows in " + report.file());
+        Assert.assertTrue(report.failures().isEmpty(), report.failures().size() + " API check(s) failed:\n"
+                + report.failures().stream()
+                .map(result -> result.check().id() + " " + result.check().method() + " "
+                        + result.check().endpoint() + ": " + result.failure())
+                .collect(Collectors.joining("\n")));
+    }
+}
@@ -1,11 +1,15 @@
 package com.banking.runners;
 
+import com.banking.utils.ScenarioDurations;
 import io.cucumber.testng.AbstractTestNGCucumberTests;
 import io.cucumber.testng.CucumberOptions;
 import org.testng.annotations.DataProvider;
 
 /**
  * Mobile Test Runner - Runs @mobile tagged scenarios (Appium)
+ * Scenarios run in parallel, each on a device leased from DeviceFarm,
+ * longest (by past duration) first; one thread per device (DeviceParallelism),
+ * so serially unless device.farm.enabled
  * Usage: mvn test -Pmobile
  */
 @CucumberOptions(
@@ -23,8 +27,8 @@ import org.testng.annotations.DataProvider;
 public class MobileTestRunner extends AbstractTestNGCucumberTests {
 
     @Override
-    @DataProvider(parallel = false)
+    @DataProvider(parallel = true)
     public Object[][] scenarios() {
-        return super.scenarios();
+        return ScenarioDurations.longestFirst(super.scenarios());
     }
 }
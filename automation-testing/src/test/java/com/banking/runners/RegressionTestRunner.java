@@ -1,5 +1,6 @@
 package com.banking.runners;
 
+import com.banking.utils.DriverPreWarmer;
 import io.cucumber.testng.AbstractTestNGCucumberTests;
 import io.cucumber.testng.CucumberOptions;
 import org.testng.annotations.DataProvider;
@@ -25,6 +26,8 @@ public class RegressionTestRunner extends AbstractTestNGCucumberTests {
     @Override
     @DataProvider(parallel = true)
     public Object[][] scenarios() {
-        return super.scenarios();
+        Object[][] scenarios = super.scenarios();
+        DriverPreWarmer.warm(scenarios);
+        return scenarios;
     }
 }
@@ -1,79 +1,88 @@
 package com.banking.steps;
 
+import com.banking.utils.APIHelper;
+import com.banking.utils.ApiSpecs;
 import com.banking.utils.ConfigReader;
+import com.banking.utils.JsonStreamValidator;
 import io.cucumber.java.en.And;
 import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
 import io.cucumber.datatable.DataTable;
-import io.restassured.RestAssured;
+import io.restassured.path.json.JsonPath;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
 import org.testng.Assert;
 
-import java.util.List;
+import java.io.IOException;
 import java.util.Map;
 
-import static io.restassured.RestAssured.given;
-
 /**
  * Step Definitions for REST API Testing
  * Uses REST Assured for HTTP calls against the banking backend
+ * (shared per-environment specification from ApiSpecs). The body is parsed
+ * at most once per response (json()); steps that check every list element
+ * stream it with JsonStreamValidator instead of building the list. The body
+ * itself is held once as bytes (ApiSpecs buffers it, and several steps read
+ * the same response), so a step costs O(body) memory, not the several times
+ * larger object graph. Whole response contracts come from the endpoint's
+ * compiled schema (ApiSchemas)
  */
 public class APISteps {
+    // Off when the scenarios are replayed as load (APILoadRunner)
+    private static final boolean LOG = ConfigReader.getBoolean("api.steps.log", true);
+
     private Response response;
     private RequestSpecification request;
-    private String baseUrl;
-
-    private void setupBaseUrl() {
-        baseUrl = ConfigReader.getApiBaseUrl();
-        RestAssured.baseURI = baseUrl;
-    }
+    private JsonPath json;
+    private String method;
+    private String endpoint;
 
     // ========== When Steps ==========
 
     @When("I send GET request to {string}")
     public void iSendGetRequest(String endpoint) {
-        setupBaseUrl();
-        request = given()
-                .header("Content-Type", "application/json")
-                .header("Accept", "application/json");
+        request = ApiSpecs.request();
         response = request.get(endpoint);
-        System.out.println("GET " + endpoint + " => Status: " + response.getStatusCode());
+        json = null;
+        method = "GET";
+        this.endpoint = endpoint;
+        log("GET " + endpoint + " => Status: " + response.getStatusCode());
     }
 
     @When("I send POST request to {string} with body:")
     public void iSendPostRequestWithBody(String endpoint, DataTable dataTable) {
-        setupBaseUrl();
         Map<String, String> body = dataTable.asMap(String.class, String.class);
 
-        request = given()
-                .header("Content-Type", "application/json")
-                .header("Accept", "application/json")
+        request = ApiSpecs.request()
                 .body(body);
         response = request.post(endpoint);
-        System.out.println("POST " + endpoint + " => Status: " + response.getStatusCode());
+        json = null;
+        method = "POST";
+        this.endpoint = endpoint;
+        log("POST " + endpoint + " => Status: " + response.getStatusCode());
     }
 
     @When("I send PUT request to {string} with body:")
     public void iSendPutRequestWithBody(String endpoint, DataTable dataTable) {
-        setupBaseUrl();
         Map<String, String> body = dataTable.asMap(String.class, String.class);
 
-        request = given()
-                .header("Content-Type", "application/json")
-                .header("Accept", "application/json")
+        request = ApiSpecs.request()
                 .body(body);
         response = request.put(endpoint);
-        System.out.println("PUT " + endpoint + " => Status: " + response.getStatusCode());
+        json = null;
+        method = "PUT";
+        this.endpoint = endpoint;
+        log("PUT " + endpoint + " => Status: " + response.getStatusCode());
     }
 
     @When("I send DELETE request to {string}")
     public void iSendDeleteRequest(String endpoint) {
-        setupBaseUrl();
-        request = given()
-                .header("Content-Type", "application/json");
+        request = ApiSpecs.request();
         response = request.delete(endpoint);
-        System.out.println("DELETE " + endpoint + " => Status: " + response.getStatusCode());
+        json = null;
+        method = "DELETE";
+        this.endpoint = endpoint;
+        log("DELETE " + endpoint + " => Status: " + response.getStatusCode());
     }
 
     // ========== Then Steps ==========
@@ -88,85 +97,67 @@ public class APISteps {
 
     @Then("the response should contain a list of customers")
     public void theResponseShouldContainCustomerList() {
-        List<?> customers = response.jsonPath().getList("$");
-        Assert.assertNotNull(customers, "Response should contain customer list");
-        Assert.assertTrue(customers.size() > 0, "Customer list should not be empty");
-        System.out.println("Found " + customers.size() + " customers");
+        JsonStreamValidator.Result customers = validateEach(new JsonStreamValidator(),
+                "Response should contain customer list");
+        Assert.assertTrue(customers.elements() > 0, "Customer list should not be empty");
+        log("Found " + customers.elements() + " customers");
     }
 
     @And("each customer should have id, first_name, last_name, email")
     public void eachCustomerShouldHaveRequiredFields() {
-        List<Map<String, Object>> customers = response.jsonPath().getList("$");
-        for (Map<String, Object> customer : customers) {
-            Assert.assertNotNull(customer.get("id"), "Customer should have id");
-            Assert.assertNotNull(customer.get("first_name"), "Customer should have first_name");
-            Assert.assertNotNull(customer.get("last_name"), "Customer should have last_name");
-            Assert.assertNotNull(customer.get("email"), "Customer should have email");
-        }
+        validateEach(new JsonStreamValidator().requireAll(JsonStreamValidator.Kind.NON_NULL,
+                "id", "first_name", "last_name", "email"), "Customer should have id, first_name, last_name, email");
     }
 
     @And("the response should contain {string} count")
     public void theResponseShouldContainCount(String field) {
-        Object value = response.jsonPath().get(field);
+        Object value = json().get(field);
         Assert.assertNotNull(value, "Response should contain '" + field + "' count");
-        System.out.println(field + " count: " + value);
+        log(field + " count: " + value);
     }
 
     @And("the response {string} should be {string}")
     public void theResponseFieldShouldBe(String field, String expectedValue) {
-        String actualValue = response.jsonPath().getString(field);
+        String actualValue = json().getString(field);
         Assert.assertEquals(actualValue, expectedValue,
                 "Field '" + field + "' mismatch");
     }
 
     @And("the response {string} should be true")
     public void theResponseFieldShouldBeTrue(String field) {
-        Boolean value = response.jsonPath().getBoolean(field);
+        Boolean value = json().getBoolean(field);
         Assert.assertTrue(value, "Field '" + field + "' should be true");
     }
 
     @And("the response {string} should be false")
     public void theResponseFieldShouldBeFalse(String field) {
-        Boolean value = response.jsonPath().getBoolean(field);
+        Boolean value = json().getBoolean(field);
         Assert.assertFalse(value, "Field '" + field + "' should be false");
     }
 
     @And("the response should contain {string} as {string}")
     public void theResponseShouldContainFieldAs(String field, String expectedValue) {
-        String actualValue = response.jsonPath().getString(field);
+        String actualValue = json().getString(field);
         Assert.assertEquals(actualValue, expectedValue,
                 "Field '" + field + "' should be '" + expectedValue + "'");
     }
 
     @And("each account should have {string} field")
     public void eachAccountShouldHaveField(String fieldName) {
-        List<Map<String, Object>> accounts = response.jsonPath().getList("$");
-        Assert.assertNotNull(accounts, "Accounts list should not be null");
-        for (Map<String, Object> account : accounts) {
-            Assert.assertTrue(account.containsKey(fieldName),
-                    "Account should have '" + fieldName + "' field");
-        }
+        validateEach(new JsonStreamValidator().require(fieldName, JsonStreamValidator.Kind.PRESENT),
+                "Account should have '" + fieldName + "' field");
     }
 
     @And("each account should have {string} as a number")
     public void eachAccountShouldHaveFieldAsNumber(String fieldName) {
-        List<Map<String, Object>> accounts = response.jsonPath().getList("$");
-        for (Map<String, Object> account : accounts) {
-            Object value = account.get(fieldName);
-            Assert.assertNotNull(value, "'" + fieldName + "' should not be null");
-            Assert.assertTrue(value instanceof Number,
-                    "'" + fieldName + "' should be a number, got: " + value.getClass());
-        }
+        validateEach(new JsonStreamValidator().require(fieldName, JsonStreamValidator.Kind.NUMBER),
+                "'" + fieldName + "' should be a number");
     }
 
     @And("all test cases should have module {string}")
     public void allTestCasesShouldHaveModule(String expectedModule) {
-        List<Map<String, Object>> testCases = response.jsonPath().getList("$");
-        for (Map<String, Object> tc : testCases) {
-            String module = (String) tc.get("module");
-            Assert.assertEquals(module.toLowerCase(), expectedModule.toLowerCase(),
-                    "Test case module mismatch");
-        }
+        validateEach(new JsonStreamValidator().requireValue("module", expectedModule::equalsIgnoreCase,
+                "'" + expectedModule + "'"), "Test case module mismatch");
     }
 
     @And("the response should contain table {string}")
@@ -176,8 +167,41 @@ public class APISteps {
                 "Schema should contain table '" + tableName + "'");
     }
 
+    @Then("the response should match the endpoint schema")
+    public void theResponseShouldMatchTheEndpointSchema() {
+        APIHelper.validateSchema(response, method, endpoint);
+    }
+
     // ========== Helper Methods ==========
 
+    /**
+     * Response body parsed once, shared by every Then step on this response
+     */
+    private JsonPath json() {
+        if (json == null) json = response.jsonPath();
+        return json;
+    }
+
+    /**
+     * Stream the (array) body through the validator and fail the step on
+     * any violation. Reads the buffered body again, so other steps can still
+     * use it; nothing beyond that buffer is allocated per element
+     */
+    private JsonStreamValidator.Result validateEach(JsonStreamValidator validator, String message) {
+        JsonStreamValidator.Result result;
+        try {
+            result = validator.validate(response.asInputStream());
+        } catch (IOException e) {
+            throw new AssertionError(message + ": " + e.getMessage(), e);
+        }
+        Assert.assertTrue(result.passed(), message + " - " + result.summary());
+        return result;
+    }
+
+    private static void log(String message) {
+        if (LOG) System.out.println(message);
+    }
+
     public Response getLastResponse() {
         return response;
     }
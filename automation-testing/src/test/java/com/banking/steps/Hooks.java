@@ -1,19 +1,38 @@
 package com.banking.steps;
 
+import com.banking.utils.CommandTracer;
 import com.banking.utils.ConfigReader;
 import com.banking.utils.DriverFactory;
+import com.banking.utils.FastMode;
+import com.banking.utils.GestureBatch;
+import com.banking.utils.NetworkRecorder;
+import com.banking.utils.PagePerformance;
+import com.banking.utils.ScenarioDurations;
 import com.banking.utils.ScreenshotUtil;
+import com.banking.utils.WaitPolicy;
 import io.cucumber.java.After;
 import io.cucumber.java.AfterStep;
 import io.cucumber.java.Before;
 import io.cucumber.java.Scenario;
 import org.openqa.selenium.WebDriver;
 
+import java.util.List;
+
 /**
  * Cucumber Hooks - Setup and Teardown for each scenario
  */
 public class Hooks {
 
+    @Before(order = 0)
+    public void startScenarioTracking(Scenario scenario) {
+        WaitPolicy.startScenario();
+        ScenarioDurations.startScenario();
+        GestureBatch.startScenario();
+        CommandTracer.startScenario();
+        PagePerformance.startScenario();
+        NetworkRecorder.startScenario();
+    }
+
     @Before("@banking and not @api and not @mobile")
     public void setupBrowser(Scenario scenario) {
         String browser = System.getProperty("browser", ConfigReader.getBrowser());
@@ -44,16 +63,58 @@ public class Hooks {
     public void tearDown(Scenario scenario) {
         WebDriver driver = DriverFactory.getDriver();
         if (driver != null) {
-            if (scenario.isFailed()) {
+            // A lazy driver that was never used has no browser to screenshot
+            if (scenario.isFailed() && DriverFactory.isDriverStarted()) {
                 // Capture screenshot on failure
                 byte[] screenshot = ScreenshotUtil.captureScreenshotAsBytes(driver);
                 scenario.attach(screenshot, "image/png", "failure-screenshot");
                 String path = ScreenshotUtil.captureScreenshot(driver, scenario.getName());
                 System.out.println("Screenshot saved: " + path);
             }
+            String commandReport = CommandTracer.scenarioReport(scenario.isFailed());
+            if (commandReport != null) {
+                scenario.attach(commandReport, "text/plain", "webdriver-commands");
+                System.out.println(commandReport);
+            }
+            NetworkRecorder.ScenarioTraffic traffic = NetworkRecorder.takeScenario(driver);
+            if (traffic != null) {
+                String waterfall = traffic.waterfall();
+                if (waterfall != null) {
+                    scenario.attach(waterfall, "text/plain", "network-waterfall");
+                }
+                if (traffic.shouldWriteHar(scenario.isFailed())) {
+                    String harPath = traffic.writeHar(scenario.getName());
+                    if (harPath != null) System.out.println("HAR saved: " + harPath);
+                }
+            }
+            String fastModeReport = FastMode.takeReport(driver);
+            if (fastModeReport != null) {
+                scenario.attach(fastModeReport, "text/plain", "fast-mode");
+                System.out.println(fastModeReport);
+            }
             DriverFactory.quitDriver();
         }
+        String waitReport = WaitPolicy.scenarioReport();
+        if (waitReport != null) {
+            scenario.attach(waitReport, "text/plain", "wait-time");
+            System.out.println(waitReport);
+        }
+        String batchingReport = GestureBatch.scenarioReport();
+        if (batchingReport != null) {
+            scenario.attach(batchingReport, "text/plain", "action-batching");
+            System.out.println(batchingReport);
+        }
+        String perfReport = PagePerformance.scenarioReport();
+        if (perfReport != null) {
+            scenario.attach(perfReport, "text/plain", "page-performance");
+            System.out.println(perfReport);
+        }
+        ScenarioDurations.finishScenario(scenario.getUri(), scenario.getName());
         System.out.println("Scenario " + scenario.getName() + " - " + scenario.getStatus());
+        List<String> budgetViolations = PagePerformance.scenarioViolations();
+        if (!budgetViolations.isEmpty() && ConfigReader.getBoolean("perf.budget.fail", false)) {
+            throw new AssertionError("Page performance budget exceeded: " + String.join("; ", budgetViolations));
+        }
     }
 
     @AfterStep
@@ -61,7 +122,7 @@ public class Hooks {
         // Optional: capture screenshot after each step for debugging
         if (ConfigReader.getBoolean("screenshot.each.step", false)) {
             WebDriver driver = DriverFactory.getDriver();
-            if (driver != null) {
+            if (driver != null && DriverFactory.isDriverStarted()) {
                 byte[] screenshot = ScreenshotUtil.captureScreenshotAsBytes(driver);
                 scenario.attach(screenshot, "image/png", "step-screenshot");
             }
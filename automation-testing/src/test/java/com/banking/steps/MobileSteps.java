@@ -221,8 +221,7 @@ public class MobileSteps {
 
     @Then("I should see {string}")
     public void iShouldSee(String expectedText) {
-        String pageSource = driver.getPageSource();
-        Assert.assertTrue(pageSource.contains(expectedText),
+        Assert.assertTrue(mobilePage.isTextDisplayed(expectedText),
                 "Should see: " + expectedText);
     }
 
@@ -328,8 +327,7 @@ public class MobileSteps {
 
     @And("I should see {string} message")
     public void iShouldSeeMessageText(String message) {
-        String pageSource = driver.getPageSource();
-        Assert.assertTrue(pageSource.contains(message),
+        Assert.assertTrue(mobilePage.isTextDisplayed(message),
                 "Should see message: " + message);
     }
 }
@@ -0,0 +1,163 @@
+package com.banking.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DeviceFarm leasing and health checks against local fake Appium /status
+ * endpoints. Each worker is one thread, like one parallel scenario
+ * (leases are per thread)
+ */
+public class DeviceFarmTest {
+    private static final List<String> SETTINGS = List.of("device.farm.enabled", "device.farm.file",
+            "device.farm.health.ttl.ms", "device.farm.lease.timeout");
+
+    private FakeAppiumServer serverA;
+    private FakeAppiumServer serverB;
+    private Path farmFile;
+    private ExecutorService worker1;
+    private ExecutorService worker2;
+
+    @BeforeMethod
+    public void startFarm() throws Exception {
+        serverA = new FakeAppiumServer();
+        serverB = new FakeAppiumServer();
+        farmFile = Files.createTempFile("devices", ".csv");
+        Files.writeString(farmFile, String.join("\n",
+                "name,platform,platformVersion,udid,serverUrl",
+                "pixel-a,android,14,emulator-5554," + serverA.url(),
+                "pixel-b,android,14,emulator-5556," + serverB.url(),
+                "iphone-a,ios,17.0,," + serverA.url()));
+        System.setProperty("device.farm.enabled", "true");
+        System.setProperty("device.farm.file", farmFile.toString());
+        // Every lease re-checks /status so a flipped server is seen at once
+        System.setProperty("device.farm.health.ttl.ms", "0");
+        System.setProperty("device.farm.lease.timeout", "1");
+        DeviceFarm.reload();
+        worker1 = Executors.newSingleThreadExecutor();
+        worker2 = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void stopFarm() throws Exception {
+        worker1.shutdownNow();
+        worker2.shutdownNow();
+        serverA.close();
+        serverB.close();
+        Files.deleteIfExists(farmFile);
+        SETTINGS.forEach(System::clearProperty);
+        DeviceFarm.reload();
+    }
+
+    @Test
+    public void loadsDevicesWithUniquePorts() {
+        List<MobileDevice> devices = DeviceFarm.getDevices();
+        Assert.assertEquals(devices.stream().map(MobileDevice::name).toList(),
+                List.of("pixel-a", "pixel-b", "iphone-a"));
+        Assert.assertEquals(devices.stream().map(MobileDevice::systemPort).distinct().count(), 3);
+        Assert.assertTrue(devices.get(2).isIOS());
+        Assert.assertNull(devices.get(2).udid());
+    }
+
+    @Test
+    public void parallelismMatchesLeasableDevices() {
+        Assert.assertEquals(DeviceFarm.parallelism(), 3);
+        System.setProperty("device.farm.enabled", "false");
+        DeviceFarm.reload();
+        Assert.assertEquals(DeviceFarm.parallelism(), 1);
+    }
+
+    @Test
+    public void leasesDistinctDevicesToThreads() throws Exception {
+        MobileDevice first = on(worker1, () -> DeviceFarm.lease("android"));
+        MobileDevice second = on(worker2, () -> DeviceFarm.lease("Android"));
+        Assert.assertEquals(first.name(), "pixel-a");
+        Assert.assertEquals(second.name(), "pixel-b");
+        // A thread keeps its device for later scenarios
+        Assert.assertSame(on(worker1, () -> DeviceFarm.lease("android")), first);
+        Assert.assertSame(on(worker1, DeviceFarm::current), first);
+        // Switching platform gives the Android device back
+        Assert.assertEquals(on(worker1, () -> DeviceFarm.lease("ios")).name(), "iphone-a");
+        Assert.assertEquals(on(worker2, () -> {
+            DeviceFarm.release();
+            return DeviceFarm.lease("android");
+        }).name(), "pixel-a");
+    }
+
+    @Test
+    public void waitsForAReleasedDevice() throws Exception {
+        serverB.setReady(false);
+        Assert.assertEquals(on(worker1, () -> DeviceFarm.lease("android")).name(), "pixel-a");
+
+        long start = System.nanoTime();
+        Future<MobileDevice> waiting = worker2.submit(() -> DeviceFarm.lease("android"));
+        Thread.sleep(400);
+        Assert.assertFalse(waiting.isDone(), "lease should wait while pixel-a is held");
+
+        on(worker1, () -> {
+            DeviceFarm.release();
+            return null;
+        });
+        Assert.assertEquals(waiting.get(5, TimeUnit.SECONDS).name(), "pixel-a");
+        Assert.assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(400));
+    }
+
+    @Test
+    public void timesOutWhenNoDeviceIsReleased() throws Exception {
+        serverB.setReady(false);
+        on(worker1, () -> DeviceFarm.lease("android"));
+
+        long start = System.nanoTime();
+        RuntimeException failure = leaseFailure(worker2, "android");
+        Assert.assertTrue(failure.getMessage().contains("Timed out"), failure.getMessage());
+        Assert.assertTrue(System.nanoTime() - start >= TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    public void skipsDevicesWhoseServerFailsHealthCheck() throws Exception {
+        serverA.setStatusCode(500);
+        Assert.assertEquals(on(worker1, () -> DeviceFarm.lease("android")).name(), "pixel-b");
+        Assert.assertTrue(serverA.statusRequests() > 0, "pixel-a should have been health-checked");
+
+        RuntimeException failure = leaseFailure(worker2, "ios");
+        Assert.assertTrue(failure.getMessage().contains("No healthy ios device"), failure.getMessage());
+    }
+
+    @Test
+    public void evictsHeldDeviceThatTurnsUnhealthy() throws Exception {
+        Assert.assertEquals(on(worker1, () -> DeviceFarm.lease("android")).name(), "pixel-a");
+
+        serverA.setReady(false);
+        Assert.assertEquals(on(worker1, () -> DeviceFarm.lease("android")).name(), "pixel-b");
+        Assert.assertEquals(on(worker1, DeviceFarm::current).name(), "pixel-b");
+
+        // Back in rotation once its server reports ready again
+        serverA.setReady(true);
+        Assert.assertEquals(on(worker2, () -> DeviceFarm.lease("android")).name(), "pixel-a");
+    }
+
+    private static <T> T on(ExecutorService worker, Callable<T> action) throws Exception {
+        return worker.submit(action).get(5, TimeUnit.SECONDS);
+    }
+
+    private static RuntimeException leaseFailure(ExecutorService worker, String platform) throws Exception {
+        try {
+            on(worker, () -> DeviceFarm.lease(platform));
+        } catch (ExecutionException e) {
+            return (RuntimeException) e.getCause();
+        }
+        throw new AssertionError("lease(" + platform + ") should have failed");
+    }
+}
@@ -0,0 +1,81 @@
+package com.banking.utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * DriverSessionPool reset in browser.context.mode, with the session wrapped
+ * by CommandTracer as DriverFactory does by default; the browser is a
+ * FakeChromiumDriver attached to an in-memory SharedBrowserHost
+ */
+public class DriverSessionPoolTest {
+    private static final String HOST = "fake-chrome";
+
+    @AfterMethod(alwaysRun = true)
+    public void detachHost() {
+        SharedBrowserHost.detach(HOST);
+    }
+
+    @Test
+    public void releasedDecoratedContextSessionIsRecycledAndReused() {
+        FakeChromiumDriver browser = new FakeChromiumDriver();
+        DriverSessionPool pool = new DriverSessionPool("chrome", () -> contextSession(browser));
+        long evictedBefore = RunMetrics.getCount("pool.evicted");
+
+        WebDriver first = pool.lease();
+        Assert.assertFalse(first instanceof ChromiumDriver, "session should be the tracing decorator");
+        Assert.assertTrue(SharedBrowserHost.isContextSession(first));
+        Assert.assertEquals(first.getWindowHandle(), "T-1");
+
+        pool.release(first);
+
+        Assert.assertEquals(RunMetrics.getCount("pool.evicted"), evictedBefore, "session must not be evicted");
+        Assert.assertEquals(pool.getIdleCount(), 1);
+        Assert.assertFalse(browser.isQuit());
+        // Old context disposed, session moved to a window in the new one
+        Assert.assertEquals(browser.disposedContexts(), Set.of("ctx-1"));
+        Assert.assertEquals(browser.commands().stream().filter(c -> c.startsWith("cdp:Target.")).toList(),
+                List.of("cdp:Target.createBrowserContext", "cdp:Target.createTarget",
+                        "cdp:Target.createBrowserContext", "cdp:Target.createTarget",
+                        "cdp:Target.disposeBrowserContext"));
+
+        WebDriver second = pool.lease();
+        Assert.assertSame(second, first);
+        Assert.assertEquals(second.getWindowHandle(), "T-2");
+        Assert.assertTrue(SharedBrowserHost.isContextSession(second));
+    }
+
+    @Test
+    public void ownBrowserSessionIsNotAContextSession() {
+        WebDriver traced = CommandTracer.decorate(new FakeChromiumDriver());
+        Assert.assertFalse(SharedBrowserHost.isContextSession(traced));
+        Assert.expectThrows(IllegalArgumentException.class, () -> SharedBrowserHost.recycleContext(traced));
+    }
+
+    @Test
+    public void shutdownQuitsLeasedSessions() {
+        FakeChromiumDriver browser = new FakeChromiumDriver();
+        DriverSessionPool pool = new DriverSessionPool("chrome", () -> contextSession(browser));
+        pool.lease();
+        Assert.assertEquals(pool.getLeasedCount(), 1);
+
+        pool.shutdown();
+
+        Assert.assertEquals(pool.getLeasedCount(), 0);
+        Assert.assertTrue(browser.isQuit());
+    }
+
+    /**
+     * What DriverFactory.createDriver returns in context mode with tracing on
+     */
+    private static WebDriver contextSession(FakeChromiumDriver browser) {
+        SharedBrowserHost.attach(HOST, 0).adopt(browser);
+        return CommandTracer.decorate(browser);
+    }
+}
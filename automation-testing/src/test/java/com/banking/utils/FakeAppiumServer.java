@@ -0,0 +1,63 @@
+package com.banking.utils;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fake Appium Server - Local /status endpoint for DeviceFarm health checks
+ * Answers like Appium 2 ({"value":{"ready":...}}); flip it with setReady or
+ * make it fail outright with setStatusCode
+ */
+public class FakeAppiumServer implements AutoCloseable {
+    private final HttpServer server;
+    private final AtomicInteger statusRequests = new AtomicInteger();
+    private volatile boolean ready = true;
+    private volatile int statusCode = 200;
+
+    public FakeAppiumServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/status", this::status);
+        server.start();
+    }
+
+    public String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public void setReady(boolean ready) {
+        this.ready = ready;
+    }
+
+    public void setStatusCode(int statusCode) {
+        this.statusCode = statusCode;
+    }
+
+    public int statusRequests() {
+        return statusRequests.get();
+    }
+
+    private void status(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            statusRequests.incrementAndGet();
+            byte[] body = ("{\"value\":{\"ready\": " + ready + ",\"message\":\"The server is "
+                    + (ready ? "ready" : "busy") + "\",\"build\":{\"version\":\"2.2.1\"}}}")
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(statusCode, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
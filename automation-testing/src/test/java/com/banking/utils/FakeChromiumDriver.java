@@ -0,0 +1,105 @@
+package com.banking.utils;
+
+import org.openqa.selenium.ImmutableCapabilities;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.Response;
+import org.openqa.selenium.remote.SessionId;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Fake Chromium Driver - ChromiumDriver answered in memory instead of by a
+ * browser. Windows and CDP browser contexts (Target.createBrowserContext /
+ * createTarget / disposeBrowserContext) are simulated; every command name is
+ * recorded, CDP commands as "cdp:&lt;method&gt;"
+ */
+public class FakeChromiumDriver extends ChromiumDriver {
+
+    public FakeChromiumDriver() {
+        this(new Browser());
+    }
+
+    @SuppressWarnings("unchecked")
+    private FakeChromiumDriver(Browser browser) {
+        super(browser, new ImmutableCapabilities("browserName", "chrome"), "goog:chromeOptions");
+        // Set by ChromeDriver/EdgeDriver, not by ChromiumDriver
+        cdp = (method, params) -> (Map<String, Object>) execute("executeCdpCommand",
+                Map.of("cmd", method, "params", params)).getValue();
+    }
+
+    private Browser browser() {
+        return (Browser) getCommandExecutor();
+    }
+
+    public List<String> commands() {
+        return List.copyOf(browser().commands);
+    }
+
+    public Set<String> disposedContexts() {
+        return Set.copyOf(browser().disposed);
+    }
+
+    public Set<String> windows() {
+        return Set.copyOf(browser().windows);
+    }
+
+    public boolean isQuit() {
+        return browser().commands.contains("quit");
+    }
+
+    private static class Browser implements CommandExecutor {
+        private final List<String> commands = Collections.synchronizedList(new ArrayList<>());
+        private final Set<String> windows = new LinkedHashSet<>(List.of("W-default"));
+        private final Set<String> disposed = new LinkedHashSet<>();
+        private String current = "W-default";
+        private int contexts;
+        private int targets;
+
+        @Override
+        public synchronized Response execute(Command command) {
+            String name = command.getName();
+            Map<String, ?> parameters = command.getParameters();
+            Object value = null;
+            switch (name) {
+                case "executeCdpCommand" -> {
+                    name = "cdp:" + parameters.get("cmd");
+                    value = cdp((String) parameters.get("cmd"), (Map<?, ?>) parameters.get("params"));
+                }
+                case "newSession" -> value = Map.of("browserName", "chrome");
+                case "getCurrentWindowHandle" -> value = current;
+                case "getWindowHandles" -> value = List.copyOf(windows);
+                case "switchToWindow" -> current = (String) parameters.get("handle");
+                default -> {
+                }
+            }
+            commands.add(name);
+            Response response = new Response(new SessionId("fake-session"));
+            response.setState("success");
+            response.setValue(value);
+            return response;
+        }
+
+        private Object cdp(String method, Map<?, ?> params) {
+            switch (method) {
+                case "Target.createBrowserContext":
+                    return Map.of("browserContextId", "ctx-" + ++contexts);
+                case "Target.createTarget":
+                    String target = "T-" + ++targets;
+                    windows.add(target);
+                    return Map.of("targetId", target);
+                case "Target.disposeBrowserContext":
+                    disposed.add((String) params.get("browserContextId"));
+                    return Map.of();
+                default:
+                    return Map.of();
+            }
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package com.banking.utils;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * JsonSchema keywords against valid and invalid bodies, and the committed
+ * response contracts (ApiSchemas, src/test/resources/schemas); no backend
+ * involved
+ */
+public class JsonSchemaTest {
+
+    // ========== type ==========
+
+    @Test
+    public void typeIntegerRejectsFractions() {
+        JsonSchema schema = schema("{\"type\": \"integer\"}");
+        assertValid(schema, "42");
+        assertValid(schema, "42.0");
+        assertInvalid(schema, "42.5", "$ is number, expected integer");
+        assertInvalid(schema, "\"42\"", "$ is string, expected integer");
+    }
+
+    @Test
+    public void typeNumberAcceptsIntegers() {
+        JsonSchema schema = schema("{\"type\": \"number\"}");
+        assertValid(schema, "42");
+        assertValid(schema, "-0.5");
+        assertInvalid(schema, "null", "$ is null, expected integer or number");
+    }
+
+    @Test
+    public void typeUnionAllowsNull() {
+        JsonSchema schema = schema("{\"type\": [\"string\", \"null\"]}");
+        assertValid(schema, "\"Ravi\"");
+        assertValid(schema, "null");
+        assertInvalid(schema, "true", "$ is boolean, expected null or string");
+    }
+
+    @Test
+    public void typeObjectArrayAndBoolean() {
+        assertValid(schema("{\"type\": \"object\"}"), "{}");
+        assertInvalid(schema("{\"type\": \"object\"}"), "[]", "$ is array, expected object");
+        assertValid(schema("{\"type\": \"array\"}"), "[1, 2]");
+        assertValid(schema("{\"type\": \"boolean\"}"), "false");
+        assertInvalid(schema("{\"type\": \"boolean\"}"), "0", "$ is integer, expected boolean");
+    }
+
+    // ========== enum / const ==========
+
+    @Test
+    public void enumMatchesAnyListedValue() {
+        JsonSchema schema = schema("{\"enum\": [0, 1, \"pending\"]}");
+        assertValid(schema, "1");
+        assertValid(schema, "\"pending\"");
+        assertInvalid(schema, "2", "$ is 2, expected one of [0,1,\"pending\"]");
+        assertInvalid(schema, "\"1\"", "$ is \"1\", expected one of [0,1,\"pending\"]");
+    }
+
+    @Test
+    public void constMatchesOneValue() {
+        JsonSchema schema = schema("{\"const\": \"healthy\"}");
+        assertValid(schema, "\"healthy\"");
+        assertInvalid(schema, "\"degraded\"", "$ is \"degraded\", expected \"healthy\"");
+    }
+
+    // ========== Objects ==========
+
+    @Test
+    public void requiredReportsEachMissingField() {
+        JsonSchema schema = schema("{\"required\": [\"id\", \"email\"]}");
+        assertValid(schema, "{\"id\": 1, \"email\": null}");
+        assertInvalid(schema, "{\"id\": 1}", "$.email missing");
+        Assert.assertEquals(schema.validate("{}").violations(), 2);
+        // Not an object: required does not apply
+        assertValid(schema, "[]");
+    }
+
+    @Test
+    public void propertiesValidateNestedValuesWithTheirPath() {
+        JsonSchema schema = schema("{\"properties\": {\"address\": {\"properties\": "
+                + "{\"zip_code\": {\"type\": \"string\"}}}}}");
+        assertValid(schema, "{\"address\": {\"zip_code\": \"560038\"}}");
+        // Absent properties are only checked by required
+        assertValid(schema, "{}");
+        assertInvalid(schema, "{\"address\": {\"zip_code\": 560038}}",
+                "$.address.zip_code is integer, expected string");
+    }
+
+    @Test
+    public void additionalPropertiesFalseRejectsUndeclared() {
+        JsonSchema schema = schema("{\"properties\": {\"id\": {}}, \"additionalProperties\": false}");
+        assertValid(schema, "{\"id\": 1}");
+        assertInvalid(schema, "{\"id\": 1, \"password_hash\": \"x\"}", "$.password_hash is not allowed");
+    }
+
+    @Test
+    public void additionalPropertiesSchemaChecksUndeclared() {
+        JsonSchema schema = schema("{\"properties\": {\"name\": {\"type\": \"string\"}}, "
+                + "\"additionalProperties\": {\"type\": \"integer\"}}");
+        assertValid(schema, "{\"name\": \"customers\", \"rows\": 20}");
+        assertInvalid(schema, "{\"name\": \"customers\", \"rows\": \"20\"}", "$.rows is string, expected integer");
+        assertValid(schema("{\"additionalProperties\": true}"), "{\"anything\": [1]}");
+    }
+
+    // ========== Arrays ==========
+
+    @Test
+    public void itemsValidateEachElementWithItsIndex() {
+        JsonSchema schema = schema("{\"items\": {\"type\": \"integer\"}}");
+        assertValid(schema, "[1, 2, 3]");
+        assertValid(schema, "[]");
+        assertInvalid(schema, "[1, \"two\", 3]", "$[1] is string, expected integer");
+    }
+
+    @Test
+    public void minAndMaxItems() {
+        JsonSchema schema = schema("{\"minItems\": 1, \"maxItems\": 2}");
+        assertValid(schema, "[1]");
+        assertValid(schema, "[1, 2]");
+        assertInvalid(schema, "[]", "$ has 0 item(s), minItems 1");
+        assertInvalid(schema, "[1, 2, 3]", "$ has 3 item(s), maxItems 2");
+    }
+
+    // ========== Numbers ==========
+
+    @Test
+    public void inclusiveBounds() {
+        JsonSchema schema = schema("{\"minimum\": 0, \"maximum\": 100}");
+        assertValid(schema, "0");
+        assertValid(schema, "100");
+        assertInvalid(schema, "-0.01", "$ is -0.01, minimum 0.0");
+        assertInvalid(schema, "101", "$ is 101, maximum 100.0");
+    }
+
+    @Test
+    public void exclusiveBounds() {
+        JsonSchema schema = schema("{\"exclusiveMinimum\": 0, \"exclusiveMaximum\": 1}");
+        assertValid(schema, "0.5");
+        assertInvalid(schema, "0", "$ is 0, exclusiveMinimum 0.0");
+        assertInvalid(schema, "1", "$ is 1, exclusiveMaximum 1.0");
+    }
+
+    // ========== Strings ==========
+
+    @Test
+    public void lengthCountsCodePoints() {
+        JsonSchema schema = schema("{\"minLength\": 2, \"maxLength\": 3}");
+        assertValid(schema, "\"ab\"");
+        // One code point, two UTF-16 chars
+        assertInvalid(schema, "\"💳\"", "$ has length 1, minLength 2");
+        assertInvalid(schema, "\"abcd\"", "$ has length 4, maxLength 3");
+    }
+
+    @Test
+    public void patternIsUnanchoredLikeEcmaScript() {
+        JsonSchema schema = schema("{\"pattern\": \"^CUST-\\\\d+$\"}");
+        assertValid(schema, "\"CUST-10001\"");
+        assertInvalid(schema, "\"CUST-\"", "$ is \"CUST-\", expected to match ^CUST-\\d+$");
+        assertValid(schema("{\"pattern\": \"@\"}"), "\"a@b.com\"");
+    }
+
+    @Test
+    public void keywordsOnlyApplyToTheirType() {
+        JsonSchema schema = schema("{\"minLength\": 5, \"minimum\": 10, \"minItems\": 3, \"required\": [\"id\"]}");
+        assertValid(schema, "12");
+        assertValid(schema, "\"abcde\"");
+        assertValid(schema, "null");
+    }
+
+    // ========== $ref ==========
+
+    @Test
+    public void refIsResolvedOnFirstUseOnly() {
+        List<String> resolved = new ArrayList<>();
+        JsonSchema item = schema("{\"type\": \"integer\"}");
+        JsonSchema list = JsonSchema.compile(object("{\"items\": {\"$ref\": \"item.json\"}}"), name -> {
+            resolved.add(name);
+            return item;
+        });
+        Assert.assertTrue(resolved.isEmpty(), "compile must not resolve $ref");
+        assertValid(list, "[1, 2, 3]");
+        assertInvalid(list, "[1, \"x\"]", "$[1] is string, expected integer");
+        Assert.assertEquals(resolved, List.of("item.json"));
+    }
+
+    @Test
+    public void refMayPointBackToItself() {
+        Map<String, JsonSchema> files = new HashMap<>();
+        JsonSchema node = JsonSchema.compile(object("{\"type\": \"object\", \"required\": [\"name\"], "
+                + "\"properties\": {\"children\": {\"items\": {\"$ref\": \"node.json\"}}}}"), files::get);
+        files.put("node.json", node);
+        assertValid(node, "{\"name\": \"a\", \"children\": [{\"name\": \"b\", \"children\": []}]}");
+        assertInvalid(node, "{\"name\": \"a\", \"children\": [{\"children\": []}]}", "$.children[0].name missing");
+    }
+
+    // ========== Compilation and reporting ==========
+
+    @Test
+    public void annotationsAreIgnored() {
+        assertValid(schema("{\"$schema\": \"http://json-schema.org/draft-07/schema#\", \"title\": \"T\", "
+                + "\"description\": \"d\", \"format\": \"email\", \"examples\": [1], \"type\": \"string\"}"),
+                "\"not-an-email\"");
+    }
+
+    @Test
+    public void unsupportedKeywordsAreRejected() {
+        for (String keyword : List.of("oneOf", "anyOf", "allOf", "not", "if", "uniqueItems", "multipleOf",
+                "patternProperties", "dependencies")) {
+            IllegalArgumentException e = Assert.expectThrows(IllegalArgumentException.class,
+                    () -> schema("{\"" + keyword + "\": []}"));
+            Assert.assertEquals(e.getMessage(), "Unsupported JSON schema keyword '" + keyword + "'");
+        }
+    }
+
+    @Test
+    public void unsupportedKeywordsAreRejectedWhenNested() {
+        IllegalArgumentException e = Assert.expectThrows(IllegalArgumentException.class,
+                () -> schema("{\"properties\": {\"id\": {\"items\": {\"uniqueItems\": true}}}}"));
+        Assert.assertTrue(e.getMessage().contains("uniqueItems"), e.getMessage());
+    }
+
+    @Test
+    public void malformedBodyIsOneViolation() {
+        JsonSchema.Result result = schema("{\"type\": \"object\"}").validate("{\"id\": ");
+        Assert.assertEquals(result.violations(), 1);
+        Assert.assertTrue(result.messages().get(0).startsWith("$ is not valid JSON: "), result.summary());
+    }
+
+    @Test
+    public void countsEveryViolationButDescribesTheFirstTen() {
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i < 15; i++) body.append(i > 0 ? "," : "").append("\"x\"");
+        JsonSchema.Result result = schema("{\"items\": {\"type\": \"integer\"}}").validate(body.append("]").toString());
+        Assert.assertEquals(result.violations(), 15);
+        Assert.assertEquals(result.messages().size(), 10);
+        Assert.assertTrue(result.summary().startsWith("15 violation(s): $[0] is string"), result.summary());
+        Assert.assertTrue(result.summary().endsWith("; ..."), result.summary());
+        Assert.assertEquals(schema("{}").validate("[]").summary(), "valid");
+    }
+
+    // ========== Committed contracts (ApiSchemas) ==========
+
+    @Test
+    public void endpointRoutesMatchParametersAndIgnoreQuery() {
+        Assert.assertSame(ApiSchemas.forEndpoint("get", "/api/customers/7?expand=accounts"),
+                ApiSchemas.forEndpoint("GET", "/api/customers/12"));
+        Assert.assertNotSame(ApiSchemas.forEndpoint("GET", "/api/customers"),
+                ApiSchemas.forEndpoint("GET", "/api/customers/12"));
+        Assert.assertSame(ApiSchemas.forEndpoint("PUT", "/api/test-cases/TC-001/execute"),
+                ApiSchemas.forEndpoint("GET", "/api/test-cases/TC-001"));
+        Assert.expectThrows(IllegalArgumentException.class, () -> ApiSchemas.forEndpoint("DELETE", "/api/customers/1"));
+        Assert.expectThrows(IllegalArgumentException.class, () -> ApiSchemas.forEndpoint("GET", "/api/customers/1/x"));
+    }
+
+    @Test
+    public void customerListContract() {
+        JsonSchema customers = ApiSchemas.forEndpoint("GET", "/api/customers");
+        String customer = "{\"id\": 1, \"customer_id\": \"CUST-10001\", \"first_name\": \"Rajesh\", "
+                + "\"last_name\": \"Kumar\", \"email\": \"rajesh.kumar@email.com\", \"phone\": \"+91-9876543210\", "
+                + "\"is_active\": 1, \"is_verified\": 1}";
+        assertValid(customers, "[" + customer + "]");
+        assertInvalid(customers, "[" + customer + ", " + customer.replace("rajesh.kumar@email.com", "rajesh") + "]",
+                "$[1].email is \"rajesh\", expected to match ^[^@\\s]+@[^@\\s]+$");
+        assertInvalid(customers, "[" + customer.replace("\"is_active\": 1", "\"is_active\": true") + "]",
+                "$[0].is_active is true, expected one of [0,1]");
+    }
+
+    // ========== Helpers ==========
+
+    private static JsonSchema schema(String json) {
+        return JsonSchema.compile(object(json), unresolved());
+    }
+
+    private static Function<String, JsonSchema> unresolved() {
+        return name -> {
+            throw new AssertionError("unexpected $ref " + name);
+        };
+    }
+
+    private static JsonObject object(String json) {
+        return JsonParser.parseString(json).getAsJsonObject();
+    }
+
+    private static void assertValid(JsonSchema schema, String body) {
+        JsonSchema.Result result = schema.validate(body);
+        Assert.assertTrue(result.passed(), body + " should be valid: " + result.summary());
+    }
+
+    private static void assertInvalid(JsonSchema schema, String body, String message) {
+        JsonSchema.Result result = schema.validate(body);
+        Assert.assertEquals(result.messages(), List.of(message), body + ": " + result.summary());
+        Assert.assertEquals(result.violations(), 1);
+    }
+}
@@ -0,0 +1,138 @@
+package com.banking.utils;
+
+import com.banking.utils.PageSourceSnapshot.SnapshotNode;
+import io.appium.java_client.AppiumBy;
+import org.openqa.selenium.By;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * PageSourceSnapshot against recorded UiAutomator2 and XCUITest page sources
+ * (src/test/resources/pagesource); no device or Appium server involved
+ */
+public class PageSourceSnapshotTest {
+    private PageSourceSnapshot android;
+    private PageSourceSnapshot ios;
+
+    @BeforeClass
+    public void loadFixtures() throws Exception {
+        android = PageSourceSnapshot.parse(Files.readString(
+                Paths.get("src/test/resources/pagesource/android_dashboard.xml")));
+        ios = PageSourceSnapshot.parse(Files.readString(
+                Paths.get("src/test/resources/pagesource/ios_dashboard.xml")));
+    }
+
+    // ========== supports() ==========
+
+    @Test
+    public void supportsLocatorsTheIndexCanAnswer() {
+        Assert.assertTrue(PageSourceSnapshot.supports(By.id("com.banking.app:id/pin_input")));
+        Assert.assertTrue(PageSourceSnapshot.supports(AppiumBy.accessibilityId("Scan QR")));
+        Assert.assertTrue(PageSourceSnapshot.supports(By.className("android.widget.Button")));
+        Assert.assertTrue(PageSourceSnapshot.supports(By.xpath("//*[@text='Home']")));
+    }
+
+    @Test
+    public void rejectsLocatorsThatNeedTheDevice() {
+        Assert.assertFalse(PageSourceSnapshot.supports(By.cssSelector(".balance")));
+        Assert.assertFalse(PageSourceSnapshot.supports(By.linkText("Home")));
+        Assert.assertFalse(PageSourceSnapshot.supports(AppiumBy.androidUIAutomator("new UiSelector().text(\"Home\")")));
+        Assert.assertNull(android.findAll(By.cssSelector(".balance")));
+    }
+
+    // ========== Android ==========
+
+    @Test
+    public void androidFindsByResourceId() {
+        List<SnapshotNode> balance = android.findAll(By.id("com.banking.app:id/balance_text"));
+        Assert.assertEquals(balance.size(), 1);
+        Assert.assertEquals(balance.get(0).text(), "₹1,25,000.50");
+        Assert.assertEquals(balance.get(0).className(), "android.widget.TextView");
+        Assert.assertEquals(android.findAll(By.id("com.banking.app:id/transaction_row")).size(), 3);
+        Assert.assertTrue(android.findAll(By.id("com.banking.app:id/missing")).isEmpty());
+    }
+
+    @Test
+    public void androidFindsByContentDescription() {
+        List<SnapshotNode> scan = android.findAll(AppiumBy.accessibilityId("Scan QR"));
+        Assert.assertEquals(scan.size(), 1);
+        Assert.assertEquals(scan.get(0).attributes().get("resource-id"), "com.banking.app:id/scan_qr");
+    }
+
+    @Test
+    public void androidFindsByXPathAndClassName() {
+        List<SnapshotNode> tabs = android.findAll(By.xpath("//android.widget.Button[@clickable='true']"));
+        Assert.assertEquals(tabs.stream().map(SnapshotNode::text).toList(),
+                List.of("Home", "Accounts", "Transfer", "More"));
+        Assert.assertEquals(android.findByXPath("//*[@text='Dashboard']").get(0).attributes().get("resource-id"),
+                "com.banking.app:id/dashboard_title");
+        Assert.assertEquals(android.findAll(By.className("android.widget.Button")).size(), 4);
+    }
+
+    @Test
+    public void androidDisplayedAttribute() {
+        Assert.assertTrue(android.findAll(By.id("com.banking.app:id/dashboard_title")).get(0).isDisplayed());
+        Assert.assertFalse(android.findAll(By.id("com.banking.app:id/error_banner")).get(0).isDisplayed());
+    }
+
+    @Test
+    public void androidContainsTextAndContentDescription() {
+        Assert.assertTrue(android.containsText("Salary credit"));
+        Assert.assertTrue(android.containsText("₹1,25,000"));
+        // Icon button with no text: only content-desc carries it, as in the raw page source
+        Assert.assertTrue(android.containsText("Scan QR"));
+        Assert.assertFalse(android.containsText("Pay Bills"));
+    }
+
+    // ========== iOS ==========
+
+    @Test
+    public void iosFindsByNameAsIdAndAccessibilityId() {
+        List<SnapshotNode> pin = ios.findAll(By.id("pin_input"));
+        Assert.assertEquals(pin.size(), 1);
+        Assert.assertEquals(pin.get(0).className(), "XCUIElementTypeSecureTextField");
+        Assert.assertEquals(ios.findAll(AppiumBy.accessibilityId("Pay Bills")).size(), 1);
+        Assert.assertEquals(ios.findAll(By.className("XCUIElementTypeButton")).size(), 4);
+    }
+
+    @Test
+    public void iosTextPrefersValueOverLabel() {
+        Assert.assertEquals(ios.findAll(By.id("balance_text")).get(0).text(), "₹1,25,000.50");
+        Assert.assertEquals(ios.findAll(AppiumBy.accessibilityId("Pay Bills")).get(0).text(), "Pay Bills");
+    }
+
+    @Test
+    public void iosFindsByXPathAndVisibleAttribute() {
+        List<SnapshotNode> buttons = ios.findByXPath("//XCUIElementTypeTabBar/XCUIElementTypeButton");
+        Assert.assertEquals(buttons.stream().map(node -> node.attributes().get("name")).toList(),
+                List.of("Home", "Accounts"));
+        Assert.assertTrue(ios.findAll(By.id("dashboard_title")).get(0).isDisplayed());
+        Assert.assertFalse(ios.findAll(By.id("error_banner")).get(0).isDisplayed());
+    }
+
+    @Test
+    public void iosContainsTextFromValueLabelAndName() {
+        Assert.assertTrue(ios.containsText("Dashboard"));
+        // Only the label holds these; value is the balance / empty
+        Assert.assertTrue(ios.containsText("Available balance"));
+        Assert.assertTrue(ios.containsText("Scan QR"));
+        Assert.assertFalse(ios.containsText("Salary credit"));
+    }
+
+    // ========== Errors ==========
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void invalidXPathIsRejected() {
+        android.findByXPath("//*[@text=");
+    }
+
+    @Test(expectedExceptions = RuntimeException.class)
+    public void malformedSourceIsRejected() {
+        PageSourceSnapshot.parse("<hierarchy><node></hierarchy>");
+    }
+}
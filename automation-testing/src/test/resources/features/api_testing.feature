@@ -10,6 +10,7 @@ Feature: Banking REST API Testing
     Then the response status code should be 200
     And the response should contain a list of customers
     And each customer should have id, first_name, last_name, email
+    And the response should match the endpoint schema
 
   @api @smoke @P0
   Scenario: Get dashboard stats API
@@ -18,6 +19,7 @@ Feature: Banking REST API Testing
     And the response should contain "customers" count
     And the response should contain "accounts" count
     And the response should contain "transactions" count
+    And the response should match the endpoint schema
 
   @api @P0
   Scenario: Get customer by ID
@@ -25,6 +27,7 @@ Feature: Banking REST API Testing
     Then the response status code should be 200
     And the response "first_name" should be "Rajesh"
     And the response "last_name" should be "Kumar"
+    And the response should match the endpoint schema
 
   @api @negative @P1
   Scenario: Get non-existent customer
@@ -39,6 +42,7 @@ Feature: Banking REST API Testing
     Then the response status code should be 200
     And the response "success" should be true
     And the response "type" should be "query"
+    And the response should match the endpoint schema
 
   @api @negative @P1
   Scenario: Execute invalid SQL query
@@ -46,6 +50,7 @@ Feature: Banking REST API Testing
       | query | SELECT * FROM non_existent_table |
     Then the response status code should be 400
     And the response "success" should be false
+    And the response should match the endpoint schema
 
   @api @P1
   Scenario: Get all accounts with customer names
@@ -53,12 +58,14 @@ Feature: Banking REST API Testing
     Then the response status code should be 200
     And each account should have "customer_name" field
     And each account should have "balance" as a number
+    And the response should match the endpoint schema
 
   @api @P1
   Scenario: Filter test cases by module
     When I send GET request to "/api/test-cases?module=authentication"
     Then the response status code should be 200
     And all test cases should have module "authentication"
+    And the response should match the endpoint schema
 
   @api @P1
   Scenario: Execute test case via API
@@ -69,6 +76,7 @@ Feature: Banking REST API Testing
       | execution_time_ms | 1500                  |
     Then the response status code should be 200
     And the response "status" should be "pass"
+    And the response should match the endpoint schema
 
   @api @P0
   Scenario: Get database schema
@@ -77,3 +85,4 @@ Feature: Banking REST API Testing
     And the response should contain table "customers"
     And the response should contain table "accounts"
     And the response should contain table "transactions"
+    And the response should match the endpoint schema